@@ -0,0 +1,82 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CacheCorridas;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CorridaDAO;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Teste de carga do {@link GerenciadorSessoes}, sem interface: executa várias sessões em
+ * paralelo, cada uma com uma corrida da temporada, e ao final informa a deriva do relógio, os
+ * passos recuperados e os quadros pulados somados de todas elas.
+ */
+public class CargaSessoes {
+    private CargaSessoes() {
+    }
+
+    /**
+     * Uso: CargaSessoes [sessoes] [velocidade] [segundos] [ano]
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        double velocidade = args.length > 1 ? Double.parseDouble(args[1]) : 50;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int ano = args.length > 3 ? Integer.parseInt(args[3]) : 2023;
+
+        CorridaDAO dao = CorridaDAO.getInstancia();
+        dao.iniciar().join();
+        List<Corrida> corridas = new ArrayList<>();
+        for (int round : dao.buscarRoundsDoAno(ano)) {
+            try {
+                corridas.add(CacheCorridas.getInstancia().buscarCorrida(ano, round));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Validação de Corrida e ResultadoCorrida: dados da corrida inválidos
+                System.err.printf("Corrida %d/%02d ignorada: %s%n", ano, round, e.getMessage());
+            } catch (RuntimeException e) {
+                throw new RuntimeException(
+                        String.format("Erro ao carregar corrida %d/%02d: %s", ano, round, e.getMessage()), e);
+            }
+        }
+        if (corridas.isEmpty()) {
+            System.err.println("Nenhuma corrida carregável em " + ano);
+            return;
+        }
+
+        GerenciadorSessoes gerenciador = GerenciadorSessoes.getInstancia();
+        List<SessaoSimulacao> criadas = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            Corrida corrida = corridas.get(i % corridas.size());
+            SessaoSimulacao sessao = gerenciador.criarSessao();
+            sessao.carregarCorrida(corrida.getAno(), corrida.getRound());
+            sessao.setVelocidade(velocidade);
+            sessao.iniciar();
+            criadas.add(sessao);
+        }
+        System.out.println(gerenciador + " com " + corridas.size() + " corridas distintas");
+
+        Thread.sleep(segundos * 1000L);
+
+        double derivaMaxima = 0;
+        double somaDeriva = 0;
+        long pulados = 0;
+        long recuperados = 0;
+        for (SessaoSimulacao sessao : criadas) {
+            sessao.pausar();
+            double deriva = Math.abs(sessao.getDerivaMs());
+            derivaMaxima = Math.max(derivaMaxima, deriva);
+            somaDeriva += deriva;
+            pulados += sessao.getQuadrosPulados();
+            recuperados += sessao.getPassosRecuperados();
+        }
+        System.out.printf("%d sessões por %d s a %.0fx: deriva média %.1f ms, máxima %.1f ms, " +
+                        "passos recuperados %d, quadros pulados %d%n",
+                quantidade, segundos, velocidade, somaDeriva / quantidade, derivaMaxima, recuperados, pulados);
+        System.out.println(CacheCorridas.getInstancia());
+
+        for (SessaoSimulacao sessao : criadas) {
+            gerenciador.encerrarSessao(sessao.getId());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega as atualizações de uma sessão aos seus listeners fora da thread do relógio.
+ * <p>
+ * Cada publicação apenas incrementa uma versão; cada listener tem no máximo uma entrega em
+ * andamento no executor. Se o listener ainda está ocupado quando novas versões chegam, elas se
+ * acumulam em uma só: a próxima entrega lê o estado mais recente da sessão e as intermediárias
+ * são contadas como descartadas. Um listener lento, portanto, nunca atrasa o relógio nem os
+ * demais listeners.
+ */
+public class DespachanteListeners {
+    private final SessaoSimulacao sessao;
+    private final Executor executor;
+    private final List<Assinatura> assinaturas = new CopyOnWriteArrayList<>();
+    private final AtomicLong versao = new AtomicLong();
+    private volatile long ultimaPublicacaoNanos;
+
+    DespachanteListeners(SessaoSimulacao sessao, Executor executor) {
+        this.sessao = sessao;
+        this.executor = executor;
+    }
+
+    public void adicionar(SimulacaoListener listener) {
+        if (listener != null) {
+            assinaturas.add(new Assinatura(listener, versao.get()));
+        }
+    }
+
+    public void remover(SimulacaoListener listener) {
+        assinaturas.removeIf(assinatura -> assinatura.listener == listener);
+    }
+
+    void limpar() {
+        assinaturas.clear();
+    }
+
+    /**
+     * Registra uma nova versão do estado e agenda a entrega para os listeners que estão livres.
+     * Não bloqueia e não chama nenhum listener na thread atual.
+     */
+    void publicar() {
+        ultimaPublicacaoNanos = System.nanoTime();
+        versao.incrementAndGet();
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.agendar();
+        }
+    }
+
+    /**
+     * Estatísticas de entrega de cada listener registrado, na ordem de registro.
+     */
+    public List<EstatisticasListener> getEstatisticas() {
+        List<EstatisticasListener> estatisticas = new ArrayList<>(assinaturas.size());
+        long atual = versao.get();
+        for (Assinatura assinatura : assinaturas) {
+            estatisticas.add(assinatura.estatisticas(atual));
+        }
+        return estatisticas;
+    }
+
+    private final class Assinatura implements Runnable {
+        private final SimulacaoListener listener;
+        private final AtomicBoolean agendada = new AtomicBoolean();
+        private final AtomicLong entregues = new AtomicLong();
+        private final AtomicLong descartadas = new AtomicLong();
+        private volatile long versaoEntregue;
+        private volatile long latenciaUltimaNanos;
+        private volatile long latenciaMaximaNanos;
+
+        private Assinatura(SimulacaoListener listener, long versaoInicial) {
+            this.listener = listener;
+            this.versaoEntregue = versaoInicial;
+        }
+
+        private void agendar() {
+            if (agendada.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    agendada.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            long alvo = versao.get();
+            long latencia = System.nanoTime() - ultimaPublicacaoNanos;
+            try {
+                listener.onSimulacaoAtualizada(sessao);
+            } catch (Exception e) {
+                System.err.println("Erro ao notificar listener: " + e.getMessage());
+            }
+            descartadas.addAndGet(Math.max(0, alvo - versaoEntregue - 1));
+            entregues.incrementAndGet();
+            versaoEntregue = alvo;
+            latenciaUltimaNanos = latencia;
+            if (latencia > latenciaMaximaNanos) {
+                latenciaMaximaNanos = latencia;
+            }
+            agendada.set(false);
+
+            // Uma publicação durante a entrega não pode se perder. A nova entrega volta para o fim
+            // da fila do executor, para não passar na frente dos outros listeners.
+            if (versao.get() > versaoEntregue && assinaturas.contains(this)) {
+                agendar();
+            }
+        }
+
+        private EstatisticasListener estatisticas(long versaoAtual) {
+            return new EstatisticasListener(listener, entregues.get(), descartadas.get(),
+                    Math.max(0, versaoAtual - versaoEntregue), latenciaUltimaNanos, latenciaMaximaNanos);
+        }
+    }
+
+    /**
+     * Contadores de entrega de um listener. O atraso é o número de versões publicadas que ele
+     * ainda não viu; a latência é o tempo entre a última publicação e o início da entrega.
+     */
+    public static final class EstatisticasListener {
+        private final SimulacaoListener listener;
+        private final long entregues;
+        private final long descartadas;
+        private final long atrasoVersoes;
+        private final long latenciaUltimaNanos;
+        private final long latenciaMaximaNanos;
+
+        private EstatisticasListener(SimulacaoListener listener, long entregues, long descartadas,
+                                     long atrasoVersoes, long latenciaUltimaNanos, long latenciaMaximaNanos) {
+            this.listener = listener;
+            this.entregues = entregues;
+            this.descartadas = descartadas;
+            this.atrasoVersoes = atrasoVersoes;
+            this.latenciaUltimaNanos = latenciaUltimaNanos;
+            this.latenciaMaximaNanos = latenciaMaximaNanos;
+        }
+
+        public SimulacaoListener getListener() {
+            return listener;
+        }
+
+        public long getEntregues() {
+            return entregues;
+        }
+
+        public long getDescartadas() {
+            return descartadas;
+        }
+
+        public long getAtrasoVersoes() {
+            return atrasoVersoes;
+        }
+
+        public double getLatenciaUltimaMs() {
+            return latenciaUltimaNanos / 1e6;
+        }
+
+        public double getLatenciaMaximaMs() {
+            return latenciaMaximaNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: entregues=%d, descartadas=%d, atraso=%d versões, latência=%.2f ms (máx. %.2f ms)",
+                    listener.getClass().getSimpleName(), entregues, descartadas, atrasoVersoes,
+                    getLatenciaUltimaMs(), getLatenciaMaximaMs());
+        }
+    }
+}
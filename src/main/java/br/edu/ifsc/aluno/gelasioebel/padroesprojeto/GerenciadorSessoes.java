@@ -0,0 +1,145 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CacheCorridas;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cria e encerra sessões de simulação independentes. Todas as sessões compartilham o
+ * {@link CacheCorridas} e um único executor agendado, com uma thread por núcleo (ou
+ * {@value #PROPRIEDADE_THREADS}), em vez de uma thread de relógio por corrida. A entrega aos
+ * listeners usa um pool à parte, que cresce sob demanda: como cada listener tem no máximo uma
+ * entrega em andamento, um listener lento ocupa uma única thread e não atrasa o relógio nem os
+ * demais.
+ * <p>
+ * O executor atende os passos em ordem de prazo, então nenhuma sessão espera atrás de outra por
+ * mais de um passo; como cada passo é curto e limitado em recuperação, uma JVM comporta
+ * centenas de reproduções simultâneas.
+ */
+public class GerenciadorSessoes {
+    public static final String PROPRIEDADE_TICK_MS = "f1.tickSimulacaoMs";
+    public static final String PROPRIEDADE_THREADS = "f1.threadsRelogio";
+    private static final long TICK_PADRAO_MS = 16;
+
+    private static class SingletonHelper {
+        private static final GerenciadorSessoes INSTANCE = new GerenciadorSessoes(
+                Long.getLong(PROPRIEDADE_TICK_MS, TICK_PADRAO_MS),
+                Integer.getInteger(PROPRIEDADE_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public static GerenciadorSessoes getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    private final long tickMs;
+    private final CacheCorridas cacheCorridas;
+    private final ScheduledThreadPoolExecutor relogio;
+    private final ExecutorService despacho;
+    private final Map<Long, SessaoSimulacao> sessoes = new ConcurrentHashMap<>();
+    private final AtomicLong proximoId = new AtomicLong(1);
+    private volatile SessaoSimulacao sessaoPadrao;
+
+    private GerenciadorSessoes(long tickMs, int threads) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("Tick da simulação deve ser positivo: " + tickMs);
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Quantidade de threads do relógio deve ser positiva: " + threads);
+        }
+        this.tickMs = tickMs;
+        this.cacheCorridas = CacheCorridas.getInstancia();
+
+        this.relogio = new ScheduledThreadPoolExecutor(threads, fabricaThreads("relogio-simulacao-"));
+        // Sessões pausadas ou encerradas não deixam tarefas canceladas acumuladas na fila
+        this.relogio.setRemoveOnCancelPolicy(true);
+        this.despacho = Executors.newCachedThreadPool(fabricaThreads("despacho-listeners-"));
+    }
+
+    private static ThreadFactory fabricaThreads(String prefixo) {
+        AtomicInteger contador = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefixo + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Cria uma sessão nova, sem corrida carregada.
+     */
+    public SessaoSimulacao criarSessao() {
+        SessaoSimulacao sessao = new SessaoSimulacao(proximoId.getAndIncrement(), cacheCorridas, relogio, despacho,
+                tickMs);
+        sessoes.put(sessao.getId(), sessao);
+        return sessao;
+    }
+
+    /**
+     * Sessão usada pela {@link SimuladorF1Facade}, criada no primeiro acesso.
+     */
+    public SessaoSimulacao getSessaoPadrao() {
+        if (sessaoPadrao == null) {
+            synchronized (this) {
+                if (sessaoPadrao == null) {
+                    sessaoPadrao = criarSessao();
+                }
+            }
+        }
+        return sessaoPadrao;
+    }
+
+    public SessaoSimulacao getSessao(long id) {
+        SessaoSimulacao sessao = sessoes.get(id);
+        if (sessao == null) {
+            throw new IllegalArgumentException("Sessão não encontrada: " + id);
+        }
+        return sessao;
+    }
+
+    public Collection<SessaoSimulacao> getSessoes() {
+        return List.copyOf(sessoes.values());
+    }
+
+    public int getQuantidadeSessoes() {
+        return sessoes.size();
+    }
+
+    /**
+     * Para a sessão, descarta seus listeners e a remove do gerenciador. A sessão padrão não pode
+     * ser encerrada, pois a fachada depende dela.
+     */
+    public void encerrarSessao(long id) {
+        SessaoSimulacao sessao = sessoes.get(id);
+        if (sessao == null) {
+            return;
+        }
+        if (sessao == sessaoPadrao) {
+            throw new IllegalArgumentException("A sessão padrão não pode ser encerrada");
+        }
+        sessoes.remove(id);
+        sessao.encerrar();
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    public int getThreadsRelogio() {
+        return relogio.getCorePoolSize();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GerenciadorSessoes{sessoes=%d, threads=%d, tick=%d ms, tarefas na fila=%d}",
+                sessoes.size(), relogio.getCorePoolSize(), tickMs, relogio.getQueue().size());
+    }
+}
@@ -1,5 +1,7 @@
 package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
 
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CorridaDAO;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CorridaDAOSQLite;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.DatabaseManager;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.ui.VisualizadorCorrida;
 
@@ -8,6 +10,7 @@ import javax.swing.plaf.FontUIResource;
 import java.awt.*;
 import java.io.IOException;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,8 +21,6 @@ public class Main {
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
     private static final String APP_NAME = "Simulador F1 - IFSC";
     private static final String CONFIG_FILE = "/config.properties";
-    private static final int MAX_STARTUP_ATTEMPTS = 3;
-    private static final long RETRY_DELAY_MS = 1000;
 
     /**
      * Ponto de entrada principal da aplicação.
@@ -36,26 +37,10 @@ public class Main {
             mostrarErroFatal("Erro não tratado", throwable);
         });
 
-        // Tenta iniciar a aplicação com retentativas
-        for (int tentativa = 1; tentativa <= MAX_STARTUP_ATTEMPTS; tentativa++) {
-            try {
-                iniciarAplicacao();
-                return;
-            } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Tentativa " + tentativa + " falhou", e);
-                if (tentativa < MAX_STARTUP_ATTEMPTS) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        LOGGER.severe("Interrompido durante espera para nova tentativa");
-                        mostrarErroFatal("Inicialização interrompida", ie);
-                        return;
-                    }
-                } else {
-                    mostrarErroFatal("Falha ao iniciar aplicação", e);
-                }
-            }
+        try {
+            iniciarAplicacao();
+        } catch (Exception e) {
+            mostrarErroFatal("Falha ao iniciar aplicação", e);
         }
     }
 
@@ -66,14 +51,9 @@ public class Main {
         // Configura look and feel
         configurarLookAndFeel();
 
-        // Inicializa banco de dados
-        DatabaseManager dbManager = DatabaseManager.getInstancia();
-        if (!dbManager.verificarConexao()) {
-            throw new RuntimeException("Não foi possível conectar ao banco de dados");
-        }
-
-        // Verifica estrutura do banco
-        verificarEstruturaBancoDados(dbManager);
+        // Inicia a fonte de dados em segundo plano; a janela não espera por ela
+        CorridaDAO corridaDAO = CorridaDAO.getInstancia();
+        CompletableFuture<Void> dadosProntos = corridaDAO.iniciar();
 
         // Inicia a interface gráfica no EDT
         SwingUtilities.invokeLater(() -> {
@@ -82,7 +62,19 @@ public class Main {
                 VisualizadorCorrida visualizador = new VisualizadorCorrida();
                 configurarJanelaPrincipal(visualizador);
                 visualizador.setVisible(true);
-                LOGGER.info("Aplicação iniciada com sucesso");
+                LOGGER.info("Interface exibida, aguardando fonte de dados");
+
+                dadosProntos.whenCompleteAsync((ignorado, erro) -> {
+                    if (erro != null) {
+                        mostrarErroFatal("Não foi possível carregar os dados", erro);
+                        return;
+                    }
+                    if (corridaDAO instanceof CorridaDAOSQLite) {
+                        verificarEstruturaBancoDados(DatabaseManager.getInstancia());
+                    }
+                    SwingUtilities.invokeLater(visualizador::onDadosDisponiveis);
+                    LOGGER.info("Aplicação iniciada com sucesso");
+                });
             } catch (Exception e) {
                 LOGGER.severe("Erro ao criar interface gráfica: " + e.getMessage());
                 mostrarErro("Erro ao iniciar aplicação", e);
@@ -139,8 +131,12 @@ public class Main {
 
     private static void verificarEstruturaBancoDados(DatabaseManager dbManager) {
         LOGGER.info("Verificando estrutura do banco de dados");
-        dbManager.mostrarEstruturaDaTabela("races");
-        dbManager.mostrarConteudoTabela("races");
+        try {
+            dbManager.mostrarEstruturaDaTabela("races");
+            dbManager.mostrarConteudoTabela("races");
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Não foi possível verificar a estrutura do banco", e);
+        }
     }
 
     private static void configurarJanelaPrincipal(VisualizadorCorrida visualizador) {
@@ -0,0 +1,61 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Soma os bytes alocados pela thread atual em um trecho repetido de código (um passo do
+ * relógio, um quadro da pintura). A contagem por thread só existe na HotSpot; nas demais JVMs
+ * o medidor fica inativo e {@link #getBytesPorMedicao()} devolve -1.
+ * <p>
+ * Uso: {@code long antes = medidor.iniciar(); ...; medidor.registrar(antes);} na mesma thread.
+ */
+public final class MedidorAlocacao {
+    private static final com.sun.management.ThreadMXBean THREADS = threadsHotSpot();
+
+    private long medicoes;
+    private long bytesAlocados;
+
+    private static com.sun.management.ThreadMXBean threadsHotSpot() {
+        ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+        if (mxBean instanceof com.sun.management.ThreadMXBean hotspot
+                && hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+            return hotspot;
+        }
+        return null;
+    }
+
+    /**
+     * Contagem atual da thread, a ser passada a {@link #registrar(long)} ao fim do trecho.
+     */
+    public long iniciar() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    public void registrar(long bytesAntes) {
+        if (THREADS == null) {
+            return;
+        }
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesAntes;
+        synchronized (this) {
+            medicoes++;
+            bytesAlocados += bytes;
+        }
+    }
+
+    public synchronized long getMedicoes() {
+        return medicoes;
+    }
+
+    /**
+     * Média de bytes por medição, ou -1 se nada foi medido.
+     */
+    public synchronized double getBytesPorMedicao() {
+        return medicoes == 0 ? -1 : (double) bytesAlocados / medicoes;
+    }
+
+    public synchronized void zerar() {
+        medicoes = 0;
+        bytesAlocados = 0;
+    }
+}
@@ -0,0 +1,224 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CorridaDAO;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.MotorSimulacao;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Reprodução em lote, sem interface, de todas as corridas de um intervalo de temporadas.
+ * Cada corrida é carregada pelo CorridaDAO e simulada até o fim em um {@link MotorSimulacao}
+ * próprio, com o mesmo passo fixo do relógio do simulador, em paralelo num ForkJoinPool.
+ * Ao final imprime a ordem de chegada de cada corrida e a vazão (corridas/s) com 1, 2, 4...
+ * até todos os núcleos.
+ */
+public class ReplayLote {
+    private static final long PASSO_PADRAO_MS = 16;
+
+    private final long passoMs;
+
+    public ReplayLote(long passoMs) {
+        if (passoMs <= 0) {
+            throw new IllegalArgumentException("Passo da simulação deve ser positivo: " + passoMs);
+        }
+        this.passoMs = passoMs;
+    }
+
+    /**
+     * Carrega em paralelo todas as corridas das temporadas informadas. Corridas que o modelo
+     * rejeita na validação são informadas e ignoradas; qualquer outra falha (conexão, pool,
+     * banco) interrompe a carga, para que o lote nunca encolha sem aviso.
+     */
+    public List<Corrida> carregar(int anoInicial, int anoFinal, ForkJoinPool pool) {
+        CorridaDAO dao = CorridaDAO.getInstancia();
+        dao.iniciar().join();
+
+        List<Callable<Corrida>> tarefas = new ArrayList<>();
+        for (int ano : dao.buscarAnosDisponiveis()) {
+            if (ano < anoInicial || ano > anoFinal) {
+                continue;
+            }
+            for (int round : dao.buscarRoundsDoAno(ano)) {
+                tarefas.add(() -> {
+                    try {
+                        return dao.buscarCorrida(ano, round);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        // Validação de Corrida e ResultadoCorrida: dados da corrida inválidos
+                        System.err.printf("Corrida %d/%02d ignorada: %s%n", ano, round, e.getMessage());
+                        return null;
+                    } catch (RuntimeException e) {
+                        throw new RuntimeException(
+                                String.format("Erro ao carregar corrida %d/%02d: %s", ano, round, e.getMessage()), e);
+                    }
+                });
+            }
+        }
+
+        List<Corrida> corridas = new ArrayList<>();
+        for (Corrida corrida : aguardar(pool.invokeAll(tarefas))) {
+            if (corrida != null) {
+                corridas.add(corrida);
+            }
+        }
+        corridas.sort(Comparator.comparingInt(Corrida::getAno).thenComparingInt(Corrida::getRound));
+        System.out.printf("%d de %d corridas carregadas (%d ignoradas por dados inválidos)%n",
+                corridas.size(), tarefas.size(), tarefas.size() - corridas.size());
+        return corridas;
+    }
+
+    /**
+     * Simula todas as corridas em paralelo e devolve os resultados na mesma ordem.
+     */
+    public List<ResultadoReplay> simular(List<Corrida> corridas, ForkJoinPool pool) {
+        List<Callable<ResultadoReplay>> tarefas = new ArrayList<>();
+        for (Corrida corrida : corridas) {
+            tarefas.add(() -> simular(corrida));
+        }
+        return aguardar(pool.invokeAll(tarefas));
+    }
+
+    /**
+     * Simula uma corrida até todos os pilotos terminarem.
+     */
+    public ResultadoReplay simular(Corrida corrida) {
+        long inicio = System.nanoTime();
+        MotorSimulacao motor = new MotorSimulacao(corrida.getResultados());
+        long passos = 0;
+        while (!motor.isTodosTerminados()) {
+            motor.avancar(passoMs);
+            passos++;
+        }
+
+        // Ordem de chegada: a ordem de corrida mantida pelo motor ao final
+        List<String> ordem = new ArrayList<>();
+        for (int i = 0; i < motor.getQuantidadePilotos(); i++) {
+            ordem.add(motor.getPiloto(motor.getSlotNaPosicao(i)).getCodigo());
+        }
+        return new ResultadoReplay(corrida, ordem, passos, passos * passoMs, motor.getMudancasPosicao(),
+                System.nanoTime() - inicio);
+    }
+
+    private static <T> List<T> aguardar(List<Future<T>> futuros) {
+        List<T> resultados = new ArrayList<>(futuros.size());
+        try {
+            for (Future<T> futuro : futuros) {
+                resultados.add(futuro.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Reprodução em lote interrompida", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Erro na reprodução em lote: " + e.getCause().getMessage(), e.getCause());
+        }
+        return resultados;
+    }
+
+    /**
+     * Resultado da reprodução de uma corrida.
+     */
+    public static final class ResultadoReplay {
+        private final Corrida corrida;
+        private final List<String> ordemChegada;
+        private final long passos;
+        private final long tempoCorridaMs;
+        private final long mudancasPosicao;
+        private final long duracaoNanos;
+
+        private ResultadoReplay(Corrida corrida, List<String> ordemChegada, long passos,
+                                long tempoCorridaMs, long mudancasPosicao, long duracaoNanos) {
+            this.corrida = corrida;
+            this.ordemChegada = List.copyOf(ordemChegada);
+            this.passos = passos;
+            this.tempoCorridaMs = tempoCorridaMs;
+            this.mudancasPosicao = mudancasPosicao;
+            this.duracaoNanos = duracaoNanos;
+        }
+
+        public Corrida getCorrida() {
+            return corrida;
+        }
+
+        public List<String> getOrdemChegada() {
+            return ordemChegada;
+        }
+
+        public long getPassos() {
+            return passos;
+        }
+
+        public long getTempoCorridaMs() {
+            return tempoCorridaMs;
+        }
+
+        public long getMudancasPosicao() {
+            return mudancasPosicao;
+        }
+
+        public long getDuracaoNanos() {
+            return duracaoNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d/%02d %s: %d passos, %d mudanças de posição, %.2f ms -> %s",
+                    corrida.getAno(), corrida.getRound(), corrida.getNome(), passos, mudancasPosicao,
+                    duracaoNanos / 1e6, String.join(" ", ordemChegada));
+        }
+    }
+
+    /**
+     * Uso: ReplayLote [anoInicial] [anoFinal] [passoMs]
+     */
+    public static void main(String[] args) {
+        int anoInicial = args.length > 0 ? Integer.parseInt(args[0]) : 1950;
+        int anoFinal = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        long passoMs = args.length > 2 ? Long.parseLong(args[2]) : PASSO_PADRAO_MS;
+        int nucleos = Runtime.getRuntime().availableProcessors();
+
+        ReplayLote replay = new ReplayLote(passoMs);
+        ForkJoinPool poolCompleto = new ForkJoinPool(nucleos);
+        long inicioCarga = System.nanoTime();
+        List<Corrida> corridas = replay.carregar(anoInicial, anoFinal, poolCompleto);
+        System.out.printf("Carga em %.2f s%n", (System.nanoTime() - inicioCarga) / 1e9);
+        if (corridas.isEmpty()) {
+            poolCompleto.shutdown();
+            return;
+        }
+
+        // Aquecimento do JIT antes de medir
+        replay.simular(corridas, poolCompleto);
+        for (ResultadoReplay resultado : replay.simular(corridas, poolCompleto)) {
+            System.out.println(resultado);
+        }
+        poolCompleto.shutdown();
+
+        System.out.printf("%nEscalabilidade (%d corridas, passo de %d ms):%n", corridas.size(), passoMs);
+        double base = 0;
+        List<Integer> niveis = new ArrayList<>();
+        for (int p = 1; p < nucleos; p *= 2) {
+            niveis.add(p);
+        }
+        niveis.add(nucleos);
+        for (int paralelismo : niveis) {
+            ForkJoinPool pool = new ForkJoinPool(paralelismo);
+            long inicio = System.nanoTime();
+            replay.simular(corridas, pool);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            pool.shutdown();
+
+            double vazao = corridas.size() / segundos;
+            if (base == 0) {
+                base = vazao;
+            }
+            System.out.printf("- %2d thread(s): %.2f s, %.1f corridas/s (%.2fx)%n",
+                    paralelismo, segundos, vazao, vazao / base);
+        }
+    }
+}
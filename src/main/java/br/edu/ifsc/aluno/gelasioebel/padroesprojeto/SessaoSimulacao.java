@@ -0,0 +1,456 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CacheCorridas;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.EstadoPiloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.MotorSimulacao;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.SnapshotSimulacao;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.ResultadoCorrida;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma simulação independente: corrida, velocidade, relógio e listeners próprios. Sessões são
+ * criadas pelo {@link GerenciadorSessoes}, compartilham o {@link CacheCorridas} e agendam seus
+ * passos no executor comum do gerenciador. Os listeners são avisados de forma assíncrona e
+ * agregada pelo {@link DespachanteListeners}, nunca na thread do relógio.
+ * <p>
+ * A cada passo a sessão publica um {@link SnapshotSimulacao} imutável em uma referência volátil;
+ * listeners e a interface leem dele, em qualquer thread, sem lock e sem ver um passo pela metade.
+ * <p>
+ * O relógio mede o tempo real decorrido com System.nanoTime em vez de supor que cada passo
+ * durou exatamente um tick: passos atrasados são recuperados e, se o atraso for grande demais,
+ * os quadros intermediários são pulados. A diferença entre o tempo real multiplicado pela
+ * velocidade e o tempo efetivamente simulado é acumulada como deriva.
+ */
+public class SessaoSimulacao {
+    private static final int MAX_PASSOS_RECUPERACAO = 8;
+
+    private final long id;
+    private final CacheCorridas cacheCorridas;
+    private final ScheduledExecutorService relogio;
+    private final DespachanteListeners despachante;
+    private volatile Corrida corridaAtual;
+    private volatile MotorSimulacao motor;
+    private volatile SnapshotSimulacao snapshot = SnapshotSimulacao.VAZIO;
+    private long sequenciaSnapshot;
+    private volatile double velocidade;
+    private volatile boolean emExecucao;
+    private volatile boolean encerrada;
+    private final long tickMs;
+    private ScheduledFuture<?> tickAgendado;
+    private volatile RuntimeException erroSimulacao;
+
+    // Contabilidade do relógio, protegida pelo monitor da sessão
+    private final long tickNanos;
+    private long ultimoTickNanos;
+    private long pendenteNanos;
+    private double restoSimuladoMs;
+    private double tempoEsperadoMs;
+    private long tempoSimuladoMs;
+    private long passosRecuperados;
+    private long quadrosPulados;
+    // Alocação da thread do relógio por passo
+    private final MedidorAlocacao alocacaoTicks = new MedidorAlocacao();
+
+    SessaoSimulacao(long id, CacheCorridas cacheCorridas, ScheduledExecutorService relogio,
+                    Executor despacho, long tickMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("Tick da simulação deve ser positivo: " + tickMs);
+        }
+        this.id = id;
+        this.cacheCorridas = cacheCorridas;
+        this.relogio = relogio;
+        this.tickMs = tickMs;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.velocidade = 1.0;
+        this.emExecucao = false;
+        this.despachante = new DespachanteListeners(this, despacho);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void carregarCorrida(int ano, int round) {
+        verificarAberta();
+        Corrida corrida;
+        try {
+            corrida = cacheCorridas.buscarCorrida(ano, round);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao carregar corrida: " + e.getMessage());
+        }
+        carregarCorrida(corrida);
+    }
+
+    /**
+     * Carrega uma corrida já buscada, sem acessar a fonte de dados. Permite à interface fazer a
+     * consulta em segundo plano e só trocar a corrida da sessão na EDT.
+     */
+    public void carregarCorrida(Corrida corrida) {
+        verificarAberta();
+        try {
+            synchronized (this) {
+                this.corridaAtual = corrida;
+                this.motor = new MotorSimulacao(corrida.getResultados());
+                zerarContabilidadeRelogio();
+                publicarSnapshot();
+            }
+
+            notificarListeners();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao carregar corrida: " + e.getMessage());
+        }
+    }
+
+    public void setVelocidade(double velocidade) {
+        this.velocidade = velocidade;
+    }
+
+    public double getVelocidade() {
+        return velocidade;
+    }
+
+    /**
+     * Coloca a simulação em execução e agenda o relógio da sessão no executor compartilhado.
+     */
+    public void iniciar() {
+        synchronized (this) {
+            verificarAberta();
+            this.erroSimulacao = null;
+            this.emExecucao = true;
+            this.ultimoTickNanos = System.nanoTime();
+            this.pendenteNanos = 0;
+            if (tickAgendado == null) {
+                tickAgendado = relogio.scheduleAtFixedRate(this::executarTick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        notificarListeners();
+    }
+
+    public void pausar() {
+        synchronized (this) {
+            this.emExecucao = false;
+            desligarRelogio();
+        }
+        notificarListeners();
+    }
+
+    public void parar() {
+        synchronized (this) {
+            this.emExecucao = false;
+            this.erroSimulacao = null;
+            desligarRelogio();
+            this.motor = null;
+            this.snapshot = SnapshotSimulacao.VAZIO;
+            zerarContabilidadeRelogio();
+        }
+        notificarListeners();
+    }
+
+    /**
+     * Para a simulação e descarta os listeners. Chamado pelo gerenciador ao encerrar a sessão;
+     * depois disso a sessão não pode ser iniciada nem receber outra corrida.
+     */
+    void encerrar() {
+        parar();
+        synchronized (this) {
+            encerrada = true;
+            corridaAtual = null;
+        }
+        despachante.limpar();
+    }
+
+    public boolean isEncerrada() {
+        return encerrada;
+    }
+
+    private void verificarAberta() {
+        if (encerrada) {
+            throw new IllegalStateException("Sessão " + id + " encerrada");
+        }
+    }
+
+    private void desligarRelogio() {
+        if (tickAgendado != null) {
+            tickAgendado.cancel(false);
+            tickAgendado = null;
+        }
+    }
+
+    /**
+     * Leva todos os pilotos ao instante informado da corrida em O(pilotos), sem executar os
+     * passos intermediários. Serve para avançar ou voltar a qualquer ponto e para saltar ao fim.
+     * Se a simulação estiver em execução, continua a partir do novo instante.
+     *
+     * @param tempoCorridaMs instante desde a largada, em milissegundos
+     */
+    public void seek(long tempoCorridaMs) {
+        if (tempoCorridaMs < 0) {
+            throw new IllegalArgumentException("Tempo da corrida não pode ser negativo: " + tempoCorridaMs);
+        }
+
+        synchronized (this) {
+            if (motor == null) {
+                throw new IllegalStateException("Nenhuma corrida carregada");
+            }
+
+            boolean todosTerminaram = motor.posicionar(tempoCorridaMs);
+
+            // O relógio recomeça a contar a partir do novo instante, sem registrar o salto como deriva
+            tempoSimuladoMs = tempoCorridaMs;
+            tempoEsperadoMs = tempoCorridaMs;
+            restoSimuladoMs = 0;
+            pendenteNanos = 0;
+            ultimoTickNanos = System.nanoTime();
+            publicarSnapshot();
+
+            if (todosTerminaram && emExecucao) {
+                emExecucao = false;
+                desligarRelogio();
+            }
+        }
+        notificarListeners();
+    }
+
+    /**
+     * Duração da corrida carregada: o maior tempo entre os resultados, ou 0 sem corrida.
+     */
+    public long getDuracaoCorridaMs() {
+        Corrida corrida = corridaAtual;
+        if (corrida == null) {
+            return 0;
+        }
+        long duracao = 0;
+        for (ResultadoCorrida resultado : corrida.getResultados().values()) {
+            duracao = Math.max(duracao, resultado.getTempoMs());
+        }
+        return duracao;
+    }
+
+    /**
+     * Publica a fotografia do passo atual. Deve ser chamado com o monitor da sessão, depois que
+     * todos os pilotos do passo foram avançados.
+     */
+    private void publicarSnapshot() {
+        if (motor != null) {
+            snapshot = motor.criarSnapshot(tempoSimuladoMs, ++sequenciaSnapshot);
+        }
+    }
+
+    private void zerarContabilidadeRelogio() {
+        pendenteNanos = 0;
+        restoSimuladoMs = 0;
+        tempoEsperadoMs = 0;
+        tempoSimuladoMs = 0;
+        passosRecuperados = 0;
+        quadrosPulados = 0;
+        alocacaoTicks.zerar();
+    }
+
+    /**
+     * Passo do relógio. Uma exceção aqui cancelaria silenciosamente o agendamento, então o erro
+     * é guardado para a interface e os listeners são avisados.
+     */
+    private void executarTick() {
+        try {
+            long bytesAntes = alocacaoTicks.iniciar();
+            boolean avancou = avancarRelogio();
+            if (avancou) {
+                alocacaoTicks.registrar(bytesAntes);
+                notificarListeners();
+            }
+        } catch (RuntimeException e) {
+            erroSimulacao = e;
+            synchronized (this) {
+                desligarRelogio();
+            }
+            notificarListeners();
+        }
+    }
+
+    /**
+     * Converte o tempo real desde o último passo em passos fixos de simulação. Até
+     * {@value #MAX_PASSOS_RECUPERACAO} passos atrasados são executados em sequência; acima disso
+     * (pausa do GC, executor sobrecarregado) todo o atraso é aplicado em um único passo. O limite
+     * também impede que uma sessão atrasada monopolize uma thread do executor compartilhado.
+     *
+     * @return true se a simulação avançou
+     */
+    private synchronized boolean avancarRelogio() {
+        if (!emExecucao) return false;
+
+        long agora = System.nanoTime();
+        long decorridoNanos = agora - ultimoTickNanos;
+        ultimoTickNanos = agora;
+        pendenteNanos += decorridoNanos;
+        tempoEsperadoMs += decorridoNanos / 1e6 * velocidade;
+
+        long passos = pendenteNanos / tickNanos;
+        if (passos == 0) return false;
+
+        if (passos > MAX_PASSOS_RECUPERACAO) {
+            long atrasoNanos = passos * tickNanos;
+            quadrosPulados += passos - 1;
+            pendenteNanos -= atrasoNanos;
+            avancar(atrasoNanos / 1e6);
+        } else {
+            passosRecuperados += passos - 1;
+            pendenteNanos -= passos * tickNanos;
+            for (long i = 0; i < passos && emExecucao; i++) {
+                avancar(tickMs);
+            }
+        }
+        publicarSnapshot();
+        return true;
+    }
+
+    /**
+     * Avança a simulação em deltaTempoMs (de tempo real, antes da velocidade).
+     * Normalmente chamado pelo relógio, mas pode ser usado diretamente para avançar sem interface.
+     * Quando todos os pilotos terminam, a simulação sai de execução e o relógio é desligado.
+     */
+    public void atualizarSimulacao(long deltaTempoMs) {
+        if (!emExecucao) return;
+
+        synchronized (this) {
+            if (!emExecucao) return;
+            tempoEsperadoMs += deltaTempoMs * velocidade;
+            avancar(deltaTempoMs);
+            publicarSnapshot();
+        }
+        notificarListeners();
+    }
+
+    /**
+     * Aplica um passo a todos os pilotos. A fração de milissegundo que sobra ao multiplicar pela
+     * velocidade é guardada para o próximo passo, para não se perder em velocidades fracionárias.
+     * Deve ser chamado com o monitor da sessão.
+     */
+    private void avancar(double deltaRealMs) {
+        double deltaSimulado = deltaRealMs * velocidade + restoSimuladoMs;
+        long deltaAjustado = (long) deltaSimulado;
+        restoSimuladoMs = deltaSimulado - deltaAjustado;
+        tempoSimuladoMs += deltaAjustado;
+
+        try {
+            boolean todosTerminaram = motor == null || motor.avancar(deltaAjustado);
+            if (todosTerminaram) {
+                emExecucao = false;
+                desligarRelogio();
+            }
+        } catch (Exception e) {
+            emExecucao = false;
+            desligarRelogio();
+            throw new RuntimeException("Erro durante atualização da simulação", e);
+        }
+    }
+
+    public void addListener(SimulacaoListener listener) {
+        despachante.adicionar(listener);
+    }
+
+    public void removeListener(SimulacaoListener listener) {
+        despachante.remover(listener);
+    }
+
+    private void notificarListeners() {
+        despachante.publicar();
+    }
+
+    /**
+     * Entregas, atualizações descartadas e atraso de cada listener da sessão.
+     */
+    public List<DespachanteListeners.EstatisticasListener> getEstatisticasListeners() {
+        return despachante.getEstatisticas();
+    }
+
+    // Getters
+    public boolean isEmExecucao() {
+        return emExecucao;
+    }
+
+    /**
+     * Erro que interrompeu o relógio da simulação, ou null se não houve erro.
+     */
+    public RuntimeException getErroSimulacao() {
+        return erroSimulacao;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    /**
+     * Quanto o tempo simulado está atrás (positivo) ou à frente (negativo) do tempo real
+     * multiplicado pela velocidade, acumulado desde o carregamento da corrida.
+     */
+    public synchronized double getDerivaMs() {
+        return tempoEsperadoMs - tempoSimuladoMs;
+    }
+
+    /**
+     * Instante atual da corrida (tempo simulado desde a largada ou desde o último seek).
+     */
+    public synchronized long getTempoSimuladoMs() {
+        return tempoSimuladoMs;
+    }
+
+    public synchronized long getPassosRecuperados() {
+        return passosRecuperados;
+    }
+
+    public synchronized long getQuadrosPulados() {
+        return quadrosPulados;
+    }
+
+    /**
+     * Média de bytes alocados pela thread do relógio em cada passo, ou -1 se a JVM não mede.
+     */
+    public double getBytesPorTick() {
+        return alocacaoTicks.getBytesPorMedicao();
+    }
+
+    public synchronized String getRelatorioRelogio() {
+        return String.format("tick=%d ms, tempo simulado=%d ms, deriva=%.1f ms, passos recuperados=%d, " +
+                        "quadros pulados=%d, alocação=%.1f bytes/tick em %d ticks",
+                tickMs, tempoSimuladoMs, tempoEsperadoMs - tempoSimuladoMs, passosRecuperados, quadrosPulados,
+                alocacaoTicks.getBytesPorMedicao(), alocacaoTicks.getMedicoes());
+    }
+
+    /**
+     * Fotografia imutável do último passo publicado, ou {@link SnapshotSimulacao#VAZIO} sem
+     * corrida carregada. É a forma de ler a corrida fora da thread do relógio.
+     */
+    public SnapshotSimulacao getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Cópia dos estados dos pilotos da corrida carregada, coerente entre pilotos, tirada sob o
+     * monitor da sessão. Alterar as cópias não afeta a simulação. Para acompanhar a corrida a
+     * cada passo, prefira {@link #getSnapshot()}, que não aloca por leitura.
+     */
+    public synchronized Map<Piloto, EstadoPiloto> getEstadosPilotos() {
+        return motor == null ? Map.of() : motor.copiarEstados();
+    }
+
+    public Corrida getCorridaAtual() {
+        return corridaAtual;
+    }
+
+    @Override
+    public String toString() {
+        Corrida corrida = corridaAtual;
+        return "SessaoSimulacao{id=" + id
+                + ", corrida=" + (corrida == null ? "-" : corrida.getAno() + "/" + corrida.getRound())
+                + ", velocidade=" + velocidade
+                + ", emExecucao=" + emExecucao + "}";
+    }
+}
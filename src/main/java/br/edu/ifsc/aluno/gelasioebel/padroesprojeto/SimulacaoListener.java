@@ -35,15 +35,15 @@ public interface SimulacaoListener extends EventListener {
 
     /**
      * Chamado quando houver atualização na simulação.
-     * Este método é invocado pelo SimuladorF1Facade sempre que o estado da simulação mudar,
-     * incluindo atualizações de progresso, mudanças de estado dos pilotos, início, pausa,
-     * ou término da corrida.
+     * Este método é invocado pela SessaoSimulacao em que o listener foi registrado sempre que o
+     * estado da simulação mudar, incluindo atualizações de progresso, mudanças de estado dos
+     * pilotos, início, pausa, ou término da corrida.
      *
-     * @param simulador Referência para o SimuladorF1Facade que contém o estado atual da simulação
+     * @param simulador Sessão que contém o estado atual da simulação
      * @throws IllegalArgumentException se o simulador for null
      * @throws IllegalStateException    se chamado quando o simulador estiver em um estado inválido
      */
-    void onSimulacaoAtualizada(SimuladorF1Facade simulador);
+    void onSimulacaoAtualizada(SessaoSimulacao simulador);
 
     /**
      * Implementação padrão para validar o simulador antes de processar a atualização.
@@ -53,7 +53,7 @@ public interface SimulacaoListener extends EventListener {
      * @throws IllegalArgumentException se o simulador for null
      * @throws IllegalStateException    se o simulador estiver em um estado inválido
      */
-    default void validarSimulador(SimuladorF1Facade simulador) {
+    default void validarSimulador(SessaoSimulacao simulador) {
         if (simulador == null) {
             throw new IllegalArgumentException("Simulador não pode ser null");
         }
@@ -71,6 +71,6 @@ public interface SimulacaoListener extends EventListener {
          * @param simulador O simulador contendo o estado atual
          * @throws Exception se ocorrer algum erro durante o processamento
          */
-        void handle(SimuladorF1Facade simulador) throws Exception;
+        void handle(SessaoSimulacao simulador) throws Exception;
     }
 }
\ No newline at end of file
@@ -1,29 +1,29 @@
 package br.edu.ifsc.aluno.gelasioebel.padroesprojeto;
 
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CacheCorridas;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.CorridaDAO;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.EstadoPiloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.SnapshotSimulacao;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
-import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.ResultadoCorrida;
 
 import java.util.*;
 
+/**
+ * Fachada da simulação para a interface. A corrida, o relógio e os listeners ficam na sessão
+ * padrão do {@link GerenciadorSessoes}; a fachada delega a ela e mantém apenas as consultas ao
+ * CorridaDAO (anos, rounds e corridas disponíveis). Para várias simulações simultâneas, crie
+ * sessões diretamente pelo gerenciador.
+ */
 public class SimuladorF1Facade {
     private static SimuladorF1Facade instancia;
     private final CorridaDAO corridaDAO;
-    private final List<SimulacaoListener> listeners;
-    private Corrida corridaAtual;
-    private final Map<Piloto, EstadoPiloto> estadosPilotos;
-    private double velocidade;
-    private boolean emExecucao;
+    private final SessaoSimulacao sessao;
     private final Map<String, Map<String, Integer>> mapaCorridasPorAno; // novo campo
 
     private SimuladorF1Facade() {
         this.corridaDAO = CorridaDAO.getInstancia();
-        this.estadosPilotos = new HashMap<>();
-        this.velocidade = 1.0;
-        this.emExecucao = false;
-        this.listeners = new ArrayList<>();
+        this.sessao = GerenciadorSessoes.getInstancia().getSessaoPadrao();
         this.mapaCorridasPorAno = new HashMap<>();
     }
 
@@ -54,17 +54,11 @@ public class SimuladorF1Facade {
 
         Integer round = corridasDoAno.get(nomeCorrida);
         if (round == null) {
-            // Se não encontrou no cache, busca todas as corridas do ano
-            List<Integer> rounds = getRoundsDoAno(ano);
-            for (Integer r : rounds) {
-                Corrida corrida = getCorridaInfo(ano, r);
-                if (corrida != null) {
-                    corridasDoAno.put(corrida.getNome(), r);
-                    if (corrida.getNome().equals(nomeCorrida)) {
-                        round = r;
-                    }
-                }
+            // Se não encontrou no cache, busca todas as corridas do ano em uma única consulta
+            for (Corrida corrida : getCorridasDoAno(ano)) {
+                corridasDoAno.put(corrida.getNome(), corrida.getRound());
             }
+            round = corridasDoAno.get(nomeCorrida);
         }
 
         if (round == null) {
@@ -75,86 +69,121 @@ public class SimuladorF1Facade {
 
 
     public void carregarCorrida(int ano, int round) {
-        try {
-            this.corridaAtual = corridaDAO.buscarCorrida(ano, round);
-            this.estadosPilotos.clear();
+        sessao.carregarCorrida(ano, round);
+    }
 
-            for (Map.Entry<Piloto, ResultadoCorrida> entry : corridaAtual.getResultados().entrySet()) {
-                estadosPilotos.put(entry.getKey(), entry.getValue().criarEstadoInicial());
-            }
+    public void carregarCorrida(Corrida corrida) {
+        sessao.carregarCorrida(corrida);
+    }
 
-            notificarListeners();
-        } catch (Exception e) {
-            throw new RuntimeException("Erro ao carregar corrida: " + e.getMessage());
-        }
+    /**
+     * Busca a corrida completa (pelo cache, que consulta o DAO na primeira vez) sem carregá-la
+     * na sessão. Faz I/O: não deve ser chamado na EDT.
+     */
+    public Corrida buscarCorrida(int ano, int round) {
+        return CacheCorridas.getInstancia().buscarCorrida(ano, round);
     }
 
     public void setVelocidade(double velocidade) {
-        this.velocidade = velocidade;
+        sessao.setVelocidade(velocidade);
     }
 
     public void iniciar() {
-        this.emExecucao = true;
-        notificarListeners();
+        sessao.iniciar();
     }
 
     public void pausar() {
-        this.emExecucao = false;
-        notificarListeners();
+        sessao.pausar();
     }
 
     public void parar() {
-        this.emExecucao = false;
-        this.estadosPilotos.clear();
-        notificarListeners();
+        sessao.parar();
     }
 
-    public void atualizarSimulacao(long deltaTempoMs) {
-        if (!emExecucao) return;
+    /**
+     * @see SessaoSimulacao#seek(long)
+     */
+    public void seek(long tempoCorridaMs) {
+        sessao.seek(tempoCorridaMs);
+    }
 
-        try {
-            long deltaAjustado = (long) (deltaTempoMs * velocidade);
-            for (EstadoPiloto estado : estadosPilotos.values()) {
-                estado.atualizar(deltaAjustado);
-            }
-            notificarListeners();
-        } catch (Exception e) {
-            emExecucao = false;
-            throw new RuntimeException("Erro durante atualização da simulação", e);
-        }
+    public long getDuracaoCorridaMs() {
+        return sessao.getDuracaoCorridaMs();
+    }
+
+    /**
+     * @see SessaoSimulacao#atualizarSimulacao(long)
+     */
+    public void atualizarSimulacao(long deltaTempoMs) {
+        sessao.atualizarSimulacao(deltaTempoMs);
     }
 
     public void addListener(SimulacaoListener listener) {
-        if (listener != null) {
-            listeners.add(listener);
-        }
+        sessao.addListener(listener);
     }
 
     public void removeListener(SimulacaoListener listener) {
-        listeners.remove(listener);
+        sessao.removeListener(listener);
     }
 
-    private void notificarListeners() {
-        for (SimulacaoListener listener : listeners) {
-            try {
-                listener.onSimulacaoAtualizada(this);
-            } catch (Exception e) {
-                System.err.println("Erro ao notificar listener: " + e.getMessage());
-            }
-        }
+    public List<DespachanteListeners.EstatisticasListener> getEstatisticasListeners() {
+        return sessao.getEstatisticasListeners();
     }
 
     // Getters
+    /**
+     * Sessão padrão do {@link GerenciadorSessoes}, à qual a fachada delega a simulação.
+     */
+    public SessaoSimulacao getSessao() {
+        return sessao;
+    }
+
     public boolean isEmExecucao() {
-        return emExecucao;
+        return sessao.isEmExecucao();
+    }
+
+    public RuntimeException getErroSimulacao() {
+        return sessao.getErroSimulacao();
+    }
+
+    public long getTickMs() {
+        return sessao.getTickMs();
+    }
+
+    public double getDerivaMs() {
+        return sessao.getDerivaMs();
+    }
+
+    public long getTempoSimuladoMs() {
+        return sessao.getTempoSimuladoMs();
+    }
+
+    public long getPassosRecuperados() {
+        return sessao.getPassosRecuperados();
+    }
+
+    public long getQuadrosPulados() {
+        return sessao.getQuadrosPulados();
+    }
+
+    public double getBytesPorTick() {
+        return sessao.getBytesPorTick();
+    }
+
+    public String getRelatorioRelogio() {
+        return sessao.getRelatorioRelogio();
+    }
+
+    public SnapshotSimulacao getSnapshot() {
+        return sessao.getSnapshot();
     }
 
     public Map<Piloto, EstadoPiloto> getEstadosPilotos() {
-        return Collections.unmodifiableMap(estadosPilotos);
+        return sessao.getEstadosPilotos();
     }
 
     public Corrida getCorridaAtual() {
-        return corridaAtual;
+        return sessao.getCorridaAtual();
     }
 
     public List<Integer> getAnosDisponiveis() {
@@ -164,4 +193,8 @@ public class SimuladorF1Facade {
     public List<Integer> getRoundsDoAno(int ano) {
         return corridaDAO.buscarRoundsDoAno(ano);
     }
+
+    public List<Corrida> getCorridasDoAno(int ano) {
+        return corridaDAO.buscarCorridasDoAno(ano);
+    }
 }
\ No newline at end of file
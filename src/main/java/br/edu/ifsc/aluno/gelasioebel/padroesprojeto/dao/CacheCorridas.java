@@ -0,0 +1,142 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache LRU de corridas completamente carregadas, posicionado na frente do CorridaDAO.
+ * É limitado tanto pelo número de corridas quanto pelo peso total (quantidade de resultados),
+ * já que uma corrida de 1950 e uma de 2024 ocupam memória bem diferente.
+ */
+public class CacheCorridas {
+    private static final int MAX_ENTRADAS = 64;
+    private static final int MAX_PESO = 2_000;
+
+    private static class SingletonHelper {
+        private static final CacheCorridas INSTANCE = new CacheCorridas(MAX_ENTRADAS, MAX_PESO);
+    }
+
+    public static CacheCorridas getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    private final int maxEntradas;
+    private final int maxPeso;
+    private final LinkedHashMap<Long, Corrida> corridas;
+    private final AtomicLong acertos = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong remocoes = new AtomicLong();
+    private int pesoAtual;
+    // Incrementada a cada invalidação; cargas iniciadas antes dela não são armazenadas
+    private long geracao;
+
+    CacheCorridas(int maxEntradas, int maxPeso) {
+        if (maxEntradas <= 0 || maxPeso <= 0) {
+            throw new IllegalArgumentException("Limites do cache devem ser positivos");
+        }
+        this.maxEntradas = maxEntradas;
+        this.maxPeso = maxPeso;
+        this.corridas = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Retorna a corrida do cache ou a carrega pelo CorridaDAO em caso de falha.
+     * A consulta ao banco acontece fora do lock para não bloquear outros leitores; se o cache
+     * for invalidado durante a consulta, a corrida é devolvida mas não fica armazenada.
+     */
+    public Corrida buscarCorrida(int ano, int round) {
+        long chave = chave(ano, round);
+        long geracaoCarga;
+        synchronized (this) {
+            Corrida corrida = corridas.get(chave);
+            if (corrida != null) {
+                acertos.incrementAndGet();
+                return corrida;
+            }
+            geracaoCarga = geracao;
+        }
+
+        falhas.incrementAndGet();
+        Corrida carregada = CorridaDAO.getInstancia().buscarCorrida(ano, round);
+        armazenar(chave, carregada, geracaoCarga);
+        return carregada;
+    }
+
+    private synchronized void armazenar(long chave, Corrida corrida, long geracaoCarga) {
+        if (geracaoCarga != geracao) {
+            return; // carregada antes de uma reimportação: pode estar desatualizada
+        }
+        Corrida anterior = corridas.put(chave, corrida);
+        if (anterior != null) {
+            pesoAtual -= peso(anterior);
+        }
+        pesoAtual += peso(corrida);
+
+        Iterator<Map.Entry<Long, Corrida>> it = corridas.entrySet().iterator();
+        while ((corridas.size() > maxEntradas || pesoAtual > maxPeso) && it.hasNext()) {
+            Map.Entry<Long, Corrida> maisAntiga = it.next();
+            if (maisAntiga.getKey() == chave) {
+                continue;
+            }
+            pesoAtual -= peso(maisAntiga.getValue());
+            it.remove();
+            remocoes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Descarta todas as corridas em cache. Deve ser chamado sempre que o banco for reimportado.
+     */
+    public synchronized void invalidar() {
+        geracao++;
+        corridas.clear();
+        pesoAtual = 0;
+    }
+
+    public synchronized void invalidar(int ano, int round) {
+        geracao++;
+        Corrida removida = corridas.remove(chave(ano, round));
+        if (removida != null) {
+            pesoAtual -= peso(removida);
+        }
+    }
+
+    private static long chave(int ano, int round) {
+        return ((long) ano << 32) | (round & 0xFFFFFFFFL);
+    }
+
+    private static int peso(Corrida corrida) {
+        return 1 + corrida.getResultados().size();
+    }
+
+    // Getters
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    public long getFalhas() {
+        return falhas.get();
+    }
+
+    public long getRemocoes() {
+        return remocoes.get();
+    }
+
+    public synchronized int getTamanho() {
+        return corridas.size();
+    }
+
+    public synchronized int getPesoAtual() {
+        return pesoAtual;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("CacheCorridas{entradas=%d/%d, peso=%d/%d, acertos=%d, falhas=%d, remoções=%d}",
+                corridas.size(), maxEntradas, pesoAtual, maxPeso, acertos.get(), falhas.get(), remocoes.get());
+    }
+}
@@ -0,0 +1,310 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Equipe;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.ResultadoCorrida;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Implementação do CorridaDAO que dispensa o SQLite: carrega na inicialização os CSVs do
+ * Ergast (races, results, drivers, constructors, circuits) para estruturas indexadas em
+ * memória. Depois da carga, todas as consultas são buscas em mapas.
+ */
+public class CorridaDAOCSV implements CorridaDAO {
+    public static final String PROPRIEDADE_DIRETORIO = "f1.diretorioCsv";
+    private static final String NULO_ERGAST = "\\N";
+    private static final int POSICAO_SEM_CLASSIFICACAO = 999;
+
+    private static class SingletonHelper {
+        private static final CorridaDAOCSV INSTANCE =
+                new CorridaDAOCSV(Paths.get(System.getProperty(PROPRIEDADE_DIRETORIO, "data")));
+    }
+
+    public static CorridaDAOCSV getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    private final Path diretorio;
+    private CompletableFuture<Void> carga;
+
+    // Estruturas preenchidas pela carga e somente lidas depois dela
+    private Map<Integer, Piloto> pilotos;
+    private Map<Integer, Equipe> equipes;
+    private Map<Long, Corrida> corridasPorChave;
+    private Map<Integer, List<Corrida>> corridasPorAno;
+    private Map<Integer, List<LinhaResultado>> resultadosPorCorrida;
+    private List<Integer> anos;
+
+    private CorridaDAOCSV(Path diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> iniciar() {
+        if (carga == null || carga.isCompletedExceptionally()) {
+            carga = CompletableFuture.runAsync(this::carregar);
+        }
+        return carga;
+    }
+
+    private void aguardarCarga() {
+        try {
+            iniciar().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando carga dos CSVs", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("CSVs indisponíveis: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public List<Integer> buscarAnosDisponiveis() {
+        aguardarCarga();
+        return anos;
+    }
+
+    @Override
+    public List<Integer> buscarRoundsDoAno(int ano) {
+        aguardarCarga();
+        List<Integer> rounds = new ArrayList<>();
+        for (Corrida corrida : corridasPorAno.getOrDefault(ano, List.of())) {
+            rounds.add(corrida.getRound());
+        }
+        return rounds;
+    }
+
+    @Override
+    public Corrida buscarCorrida(int ano, int round) {
+        aguardarCarga();
+        Corrida cabecalho = corridasPorChave.get(chave(ano, round));
+        List<LinhaResultado> linhas = cabecalho == null ? null : resultadosPorCorrida.get(cabecalho.getId());
+        if (linhas == null) {
+            throw new RuntimeException("Corrida não encontrada para ano=" + ano + " e round=" + round);
+        }
+
+        Corrida.CorridaBuilder builder = new Corrida.CorridaBuilder()
+                .setId(cabecalho.getId())
+                .setAno(ano)
+                .setRound(round)
+                .setNome(cabecalho.getNome())
+                .setCircuito(cabecalho.getCircuito(), cabecalho.getPais())
+                .setDataHora(cabecalho.getDataHora());
+
+        for (LinhaResultado linha : linhas) {
+            Piloto piloto = pilotos.get(linha.driverId);
+            Equipe equipe = equipes.get(linha.constructorId);
+            if (piloto == null) {
+                throw new IllegalArgumentException("Piloto inexistente ou inválido: " + linha.driverId);
+            }
+            if (equipe == null) {
+                throw new IllegalArgumentException("Equipe inexistente ou inválida: " + linha.constructorId);
+            }
+            builder.addResultado(piloto, new ResultadoCorrida(linha.posicao, linha.tempoMs, linha.statusId, equipe));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Corrida buscarCorridaBasica(int ano, int round) {
+        aguardarCarga();
+        return corridasPorChave.get(chave(ano, round));
+    }
+
+    @Override
+    public List<Corrida> buscarCorridasDoAno(int ano) {
+        aguardarCarga();
+        return corridasPorAno.getOrDefault(ano, List.of());
+    }
+
+    private void carregar() {
+        long inicio = System.nanoTime();
+
+        Map<Integer, Piloto> pilotosCarregados = new HashMap<>();
+        lerCsv("drivers.csv", (linha, col) -> {
+            int driverId = Integer.parseInt(linha[col.get("driverId")]);
+            try {
+                pilotosCarregados.put(driverId, RegistroPilotos.montarPiloto(driverId,
+                        linha[col.get("code")], linha[col.get("forename")], linha[col.get("surname")],
+                        linha[col.get("nationality")], linha[col.get("number")]));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Piloto ignorado (id=" + driverId + "): " + e.getMessage());
+            }
+        });
+
+        Map<Integer, Equipe> equipesCarregadas = new HashMap<>();
+        lerCsv("constructors.csv", (linha, col) -> {
+            int constructorId = Integer.parseInt(linha[col.get("constructorId")]);
+            try {
+                equipesCarregadas.put(constructorId, new Equipe.EquipeBuilder()
+                        .setId(constructorId)
+                        .setNome(linha[col.get("name")])
+                        .setNacionalidade(linha[col.get("nationality")])
+                        .build());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Equipe ignorada (id=" + constructorId + "): " + e.getMessage());
+            }
+        });
+
+        Map<Integer, String[]> circuitos = new HashMap<>();
+        lerCsv("circuits.csv", (linha, col) -> circuitos.put(
+                Integer.parseInt(linha[col.get("circuitId")]),
+                new String[]{linha[col.get("name")], linha[col.get("country")]}));
+
+        Map<Long, Corrida> porChave = new HashMap<>();
+        Map<Integer, List<Corrida>> porAno = new HashMap<>();
+        lerCsv("races.csv", (linha, col) -> {
+            String[] circuito = circuitos.get(Integer.parseInt(linha[col.get("circuitId")]));
+            if (circuito == null) {
+                return;
+            }
+            String time = linha[col.get("time")];
+            try {
+                Corrida corrida = new Corrida.CorridaBuilder()
+                        .setId(Integer.parseInt(linha[col.get("raceId")]))
+                        .setAno(Integer.parseInt(linha[col.get("year")]))
+                        .setRound(Integer.parseInt(linha[col.get("round")]))
+                        .setNome(linha[col.get("name")])
+                        .setCircuito(circuito[0], circuito[1])
+                        .setDataHora(LocalDateTime.of(
+                                LocalDate.parse(linha[col.get("date")]),
+                                !time.equals(NULO_ERGAST) ? LocalTime.parse(time) : LocalTime.MIDNIGHT))
+                        .build();
+                porChave.put(chave(corrida.getAno(), corrida.getRound()), corrida);
+                porAno.computeIfAbsent(corrida.getAno(), k -> new ArrayList<>()).add(corrida);
+            } catch (RuntimeException e) {
+                System.err.println("Corrida ignorada (raceId=" + linha[col.get("raceId")] + "): " + e.getMessage());
+            }
+        });
+        porAno.values().forEach(lista -> lista.sort(Comparator.comparingInt(Corrida::getRound)));
+
+        Map<Integer, List<LinhaResultado>> resultados = lerResultados();
+        resultados.values().forEach(lista -> lista.sort(Comparator.comparingInt(r -> r.posicao)));
+
+        List<Integer> anosOrdenados = new ArrayList<>(porAno.keySet());
+        anosOrdenados.sort(Comparator.reverseOrder());
+
+        this.pilotos = Collections.unmodifiableMap(pilotosCarregados);
+        this.equipes = Collections.unmodifiableMap(equipesCarregadas);
+        this.corridasPorChave = Collections.unmodifiableMap(porChave);
+        porAno.replaceAll((ano, lista) -> Collections.unmodifiableList(lista));
+        this.corridasPorAno = Collections.unmodifiableMap(porAno);
+        this.resultadosPorCorrida = resultados;
+        this.anos = Collections.unmodifiableList(anosOrdenados);
+
+        System.out.printf("CSVs carregados de %s em %d ms (%d corridas, %d pilotos)%n",
+                diretorio, (System.nanoTime() - inicio) / 1_000_000, porChave.size(), pilotosCarregados.size());
+    }
+
+    /**
+     * Lê results.csv direto dos bytes: os campos numéricos e o "\N" são interpretados
+     * pelo tokenizador sem criar uma String por célula.
+     */
+    private Map<Integer, List<LinhaResultado>> lerResultados() {
+        TokenizadorCSV csv = abrirCsv("results.csv");
+        Map<String, Integer> col = indexarColunas(csv.lerCabecalho());
+        int colRace = col.get("raceId");
+        int colDriver = col.get("driverId");
+        int colConstructor = col.get("constructorId");
+        int colPosition = col.get("position");
+        int colMilliseconds = col.get("milliseconds");
+        int colStatus = col.get("statusId");
+
+        Map<Integer, List<LinhaResultado>> resultados = new HashMap<>();
+        while (csv.proximaLinha()) {
+            int raceId = 0, driverId = 0, constructorId = 0, statusId = 0;
+            int posicao = POSICAO_SEM_CLASSIFICACAO;
+            long tempoMs = 0;
+            for (int i = 0; csv.proximoCampo(); i++) {
+                if (i == colRace) {
+                    raceId = csv.campoInt();
+                } else if (i == colDriver) {
+                    driverId = csv.campoInt();
+                } else if (i == colConstructor) {
+                    constructorId = csv.campoInt();
+                } else if (i == colPosition) {
+                    posicao = csv.campoInt(POSICAO_SEM_CLASSIFICACAO);
+                } else if (i == colMilliseconds) {
+                    tempoMs = csv.campoLong(0);
+                } else if (i == colStatus) {
+                    statusId = csv.campoInt();
+                }
+            }
+            resultados.computeIfAbsent(raceId, k -> new ArrayList<>())
+                    .add(new LinhaResultado(driverId, constructorId, posicao, tempoMs, statusId));
+        }
+        System.out.println("- " + csv.relatorio());
+        return resultados;
+    }
+
+    private void lerCsv(String arquivo, ProcessadorLinha processador) {
+        TokenizadorCSV csv = abrirCsv(arquivo);
+        String[] cabecalho = csv.lerCabecalho();
+        Map<String, Integer> colunas = indexarColunas(cabecalho);
+
+        String[] linha = new String[cabecalho.length];
+        while (csv.proximaLinha()) {
+            Arrays.fill(linha, NULO_ERGAST);
+            for (int i = 0; i < linha.length && csv.proximoCampo(); i++) {
+                linha[i] = csv.isNulo() ? NULO_ERGAST : csv.campoString();
+            }
+            processador.processar(linha, colunas);
+        }
+        System.out.println("- " + csv.relatorio());
+    }
+
+    private TokenizadorCSV abrirCsv(String arquivo) {
+        Path caminho = diretorio.resolve(arquivo);
+        try {
+            return TokenizadorCSV.abrir(caminho);
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao ler " + caminho + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Integer> indexarColunas(String[] cabecalho) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.length; i++) {
+            colunas.put(cabecalho[i], i);
+        }
+        return colunas;
+    }
+
+    private static long chave(int ano, int round) {
+        return ((long) ano << 32) | (round & 0xFFFFFFFFL);
+    }
+
+    @FunctionalInterface
+    private interface ProcessadorLinha {
+        void processar(String[] linha, Map<String, Integer> colunas);
+    }
+
+    /**
+     * Linha de results.csv já convertida; os objetos de domínio são montados sob demanda.
+     */
+    private static final class LinhaResultado {
+        private final int driverId;
+        private final int constructorId;
+        private final int posicao;
+        private final long tempoMs;
+        private final int statusId;
+
+        private LinhaResultado(int driverId, int constructorId, int posicao, long tempoMs, int statusId) {
+            this.driverId = driverId;
+            this.constructorId = constructorId;
+            this.posicao = posicao;
+            this.tempoMs = tempoMs;
+            this.statusId = statusId;
+        }
+    }
+}
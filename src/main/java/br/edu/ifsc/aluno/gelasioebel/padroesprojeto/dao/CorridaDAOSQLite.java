@@ -0,0 +1,296 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Equipe;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.ResultadoCorrida;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementação do CorridaDAO sobre o banco SQLite gerenciado pelo DatabaseManager.
+ */
+public class CorridaDAOSQLite implements CorridaDAO {
+    private static class SingletonHelper {
+        private static final CorridaDAOSQLite INSTANCE = new CorridaDAOSQLite();
+    }
+
+    public static CorridaDAOSQLite getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    static final String SQL_ANOS_DISPONIVEIS = """
+            SELECT DISTINCT year FROM races
+            ORDER BY year DESC
+            """;
+
+    static final String SQL_ROUNDS_DO_ANO = """
+            SELECT round FROM races
+            WHERE year = ?
+            ORDER BY round
+            """;
+
+    static final String SQL_CORRIDA = """
+            SELECT
+                r.raceId, r.name, r.date, r.time,
+                c.name AS circuitName, c.country,
+                res.driverId, res.constructorId, res.position,
+                res.positionText, res.milliseconds, res.statusId
+            FROM races r
+            JOIN circuits c ON r.circuitId = c.circuitId
+            JOIN results res ON r.raceId = res.raceId
+            WHERE r.year = ?
+            AND r.round = ?
+            ORDER BY
+                CASE
+                    WHEN COALESCE(res.position, '\\N') = '\\N' THEN 999
+                    ELSE CAST(res.position AS INTEGER)
+                END
+            """;
+
+    static final String SQL_CORRIDA_BASICA = """
+            SELECT r.raceId, r.round, r.name, r.date, r.time,
+                   c.name AS circuitName, c.country
+            FROM races r
+            JOIN circuits c ON r.circuitId = c.circuitId
+            WHERE r.year = ? AND r.round = ?
+            """;
+
+    static final String SQL_CORRIDAS_DO_ANO = """
+            SELECT r.raceId, r.round, r.name, r.date, r.time,
+                   c.name AS circuitName, c.country
+            FROM races r
+            JOIN circuits c ON r.circuitId = c.circuitId
+            WHERE r.year = ?
+            ORDER BY r.round
+            """;
+
+    private final DatabaseManager dbManager;
+    private final RegistroPilotos registroPilotos;
+    private final RegistroEquipes registroEquipes;
+
+    private CorridaDAOSQLite() {
+        this.dbManager = DatabaseManager.getInstancia();
+        this.registroPilotos = RegistroPilotos.getInstancia();
+        this.registroEquipes = RegistroEquipes.getInstancia();
+    }
+
+    @Override
+    public CompletableFuture<Void> iniciar() {
+        return dbManager.iniciar().thenApply(db -> null);
+    }
+
+    @Override
+    public List<Integer> buscarAnosDisponiveis() {
+        List<Integer> anos = new ArrayList<>();
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao();
+             ResultSet rs = conn.preparar(SQL_ANOS_DISPONIVEIS).executeQuery()) {
+            while (rs.next()) {
+                anos.add(rs.getInt("year"));
+            }
+            return anos;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar anos: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Integer> buscarRoundsDoAno(int ano) {
+        List<Integer> rounds = new ArrayList<>();
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao()) {
+            PreparedStatement stmt = conn.preparar(SQL_ROUNDS_DO_ANO);
+            stmt.setInt(1, ano);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rounds.add(rs.getInt("round"));
+                }
+                return rounds;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar rounds: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Corrida buscarCorrida(int ano, int round) {
+        // Garante os registros carregados antes de emprestar a conexão, para que a carga
+        // deles não dispute o pool com a consulta em andamento
+        registroPilotos.getPilotos();
+        registroEquipes.getEquipes();
+
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao()) {
+            PreparedStatement stmt = conn.preparar(SQL_CORRIDA);
+            stmt.setInt(1, ano);
+            stmt.setInt(2, round);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                Corrida.CorridaBuilder corridaBuilder = null;
+
+                while (rs.next()) {
+                    if (corridaBuilder == null) {
+                        String dateStr = rs.getString("date");
+                        String timeStr = rs.getString("time");
+
+                        LocalDateTime dataHora = LocalDateTime.of(
+                                LocalDate.parse(dateStr),
+                                timeStr != null && !timeStr.equals("\\N") ?
+                                        LocalTime.parse(timeStr) :
+                                        LocalTime.MIDNIGHT
+                        );
+
+                        corridaBuilder = new Corrida.CorridaBuilder()
+                                .setId(rs.getInt("raceId"))
+                                .setAno(ano)
+                                .setRound(round)
+                                .setNome(rs.getString("name"))
+                                .setCircuito(rs.getString("circuitName"), rs.getString("country"))
+                                .setDataHora(dataHora);
+                    }
+
+                    String position = rs.getString("position");
+                    int positionInt = 999;
+
+                    if (position != null && !position.equals("\\N")) {
+                        try {
+                            positionInt = Integer.parseInt(position);
+                        } catch (NumberFormatException e) {
+                            System.err.println("Invalid position format: " + position);
+                        }
+                    }
+
+                    Piloto piloto = registroPilotos.obter(rs.getInt("driverId"));
+                    Equipe equipe = registroEquipes.obter(rs.getInt("constructorId"));
+
+                    String millisStr = rs.getString("milliseconds");
+                    long millis = 0;
+                    if (millisStr != null && !millisStr.equals("\\N")) {
+                        try {
+                            millis = Long.parseLong(millisStr);
+                        } catch (NumberFormatException e) {
+                            System.err.println("Invalid milliseconds format: " + millisStr);
+                        }
+                    }
+
+                    ResultadoCorrida resultado = new ResultadoCorrida(
+                            positionInt,
+                            millis,
+                            rs.getInt("statusId"),
+                            equipe
+                    );
+
+                    corridaBuilder.addResultado(piloto, resultado);
+                }
+
+                if (corridaBuilder == null) {
+                    throw new RuntimeException("Corrida não encontrada para ano=" + ano + " e round=" + round);
+                }
+
+                return corridaBuilder.build();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar corrida: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Corrida buscarCorridaBasica(int ano, int round) {
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao()) {
+            PreparedStatement stmt = conn.preparar(SQL_CORRIDA_BASICA);
+            stmt.setInt(1, ano);
+            stmt.setInt(2, round);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return montarCorridaBasica(rs, ano);
+                }
+                return null;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar informações básicas da corrida: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Corrida> buscarCorridasDoAno(int ano) {
+        List<Corrida> corridas = new ArrayList<>();
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao()) {
+            PreparedStatement stmt = conn.preparar(SQL_CORRIDAS_DO_ANO);
+            stmt.setInt(1, ano);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    corridas.add(montarCorridaBasica(rs, ano));
+                }
+                return corridas;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar corridas do ano: " + e.getMessage(), e);
+        }
+    }
+
+    private Corrida montarCorridaBasica(ResultSet rs, int ano) throws SQLException {
+        String timeStr = rs.getString("time");
+        return new Corrida.CorridaBuilder()
+                .setId(rs.getInt("raceId"))
+                .setAno(ano)
+                .setRound(rs.getInt("round"))
+                .setNome(rs.getString("name"))
+                .setCircuito(rs.getString("circuitName"), rs.getString("country"))
+                .setDataHora(LocalDateTime.of(
+                        LocalDate.parse(rs.getString("date")),
+                        timeStr != null && !timeStr.equals("\\N") ? LocalTime.parse(timeStr) : LocalTime.MIDNIGHT
+                ))
+                .build();
+    }
+
+
+
+
+    public void verificarEstrutura() {
+        String sql = "SELECT * FROM races LIMIT 1";
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columnCount = metaData.getColumnCount();
+
+            System.out.println("\nEstrutura da tabela races:");
+            for (int i = 1; i <= columnCount; i++) {
+                System.out.printf("- %s (%s)%n",
+                        metaData.getColumnName(i),
+                        metaData.getColumnTypeName(i));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao verificar estrutura: " + e.getMessage(), e);
+        }
+    }
+
+    public void verificarDados() {
+        String sql = "SELECT * FROM races LIMIT 1";
+        try (PoolConexoes.ConexaoEmprestada conn = dbManager.emprestarConexao();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columnCount = metaData.getColumnCount();
+
+                System.out.println("\nPrimeira linha da tabela races:");
+                for (int i = 1; i <= columnCount; i++) {
+                    System.out.printf("%s: %s%n",
+                            metaData.getColumnName(i),
+                            rs.getString(i));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao verificar dados: " + e.getMessage(), e);
+        }
+    }
+
+
+}
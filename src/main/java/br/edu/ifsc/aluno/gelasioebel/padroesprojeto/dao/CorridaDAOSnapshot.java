@@ -0,0 +1,374 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Equipe;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.ResultadoCorrida;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.GravadorSnapshot.COLUNAS_INT_RESULTADOS;
+import static br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.GravadorSnapshot.MAGICO;
+import static br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.GravadorSnapshot.SEM_VALOR;
+import static br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.GravadorSnapshot.TAMANHO_CABECALHO;
+import static br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao.GravadorSnapshot.VERSAO;
+
+/**
+ * Implementação do CorridaDAO sobre o snapshot colunar gerado pelo {@link GravadorSnapshot}.
+ * O arquivo é mapeado em memória na inicialização e nada é interpretado antecipadamente:
+ * cada corrida é localizada por busca binária nas colunas year/round e seus resultados são
+ * um intervalo contíguo das colunas de resultados. Pilotos e equipes são montados na primeira
+ * vez em que aparecem e reaproveitados depois.
+ */
+public class CorridaDAOSnapshot implements CorridaDAO {
+    public static final String PROPRIEDADE_ARQUIVO = "f1.arquivoSnapshot";
+
+    // Colunas das corridas
+    private static final int COL_RACE_ID = 0;
+    private static final int COL_ANO = 1;
+    private static final int COL_ROUND = 2;
+    private static final int COL_NOME = 3;
+    private static final int COL_CIRCUITO = 4;
+    private static final int COL_PAIS = 5;
+    private static final int COL_DATA = 6;
+    private static final int COL_HORA = 7;
+    private static final int COL_INICIO_RESULTADOS = 8;
+    private static final int COL_QTD_RESULTADOS = 9;
+
+    // Colunas int dos resultados
+    private static final int COL_RES_PILOTO = 0;
+    private static final int COL_RES_EQUIPE = 1;
+    private static final int COL_RES_POSICAO = 2;
+    private static final int COL_RES_STATUS = 3;
+
+    private static class SingletonHelper {
+        private static final CorridaDAOSnapshot INSTANCE = new CorridaDAOSnapshot();
+    }
+
+    public static CorridaDAOSnapshot getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    private final Map<Integer, Piloto> pilotos = new ConcurrentHashMap<>();
+    private final Map<Integer, Equipe> equipes = new ConcurrentHashMap<>();
+    private CompletableFuture<Snapshot> carga;
+
+    private CorridaDAOSnapshot() {
+    }
+
+    @Override
+    public CompletableFuture<Void> iniciar() {
+        return carregar().thenApply(s -> null);
+    }
+
+    private synchronized CompletableFuture<Snapshot> carregar() {
+        if (carga == null || carga.isCompletedExceptionally()) {
+            carga = CompletableFuture.supplyAsync(() -> Snapshot.mapear(localizarArquivo()));
+        }
+        return carga;
+    }
+
+    /**
+     * Descarta o mapeamento atual; a próxima consulta mapeia o arquivo novamente.
+     * Deve ser chamado sempre que o snapshot for regravado.
+     */
+    public synchronized void invalidar() {
+        carga = null;
+        pilotos.clear();
+        equipes.clear();
+    }
+
+    private static Path localizarArquivo() {
+        String configurado = System.getProperty(PROPRIEDADE_ARQUIVO);
+        if (configurado != null) {
+            return Paths.get(configurado);
+        }
+        var url = CorridaDAOSnapshot.class.getResource("/data/f1db3.snap");
+        if (url == null) {
+            throw new RuntimeException("Snapshot não encontrado no classpath. " +
+                    "Gere-o com ImportadorCSV a partir de data/*.csv");
+        }
+        return Paths.get(url.getPath());
+    }
+
+    private Snapshot aguardarCarga() {
+        try {
+            return carregar().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando o snapshot", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Snapshot indisponível: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public List<Integer> buscarAnosDisponiveis() {
+        return aguardarCarga().anos;
+    }
+
+    @Override
+    public List<Integer> buscarRoundsDoAno(int ano) {
+        Snapshot s = aguardarCarga();
+        List<Integer> rounds = new ArrayList<>();
+        for (int linha = s.primeiraCorridaDoAno(ano); linha < s.nCorridas && s.corrida(COL_ANO, linha) == ano; linha++) {
+            rounds.add(s.corrida(COL_ROUND, linha));
+        }
+        return rounds;
+    }
+
+    @Override
+    public Corrida buscarCorrida(int ano, int round) {
+        Snapshot s = aguardarCarga();
+        int linha = s.localizarCorrida(ano, round);
+        if (linha < 0) {
+            throw new RuntimeException("Corrida não encontrada para ano=" + ano + " e round=" + round);
+        }
+
+        int inicio = s.corrida(COL_INICIO_RESULTADOS, linha);
+        int fim = inicio + s.corrida(COL_QTD_RESULTADOS, linha);
+        if (inicio == fim) {
+            throw new RuntimeException("Corrida não encontrada para ano=" + ano + " e round=" + round);
+        }
+
+        Corrida.CorridaBuilder builder = cabecalho(s, linha);
+        for (int r = inicio; r < fim; r++) {
+            Piloto piloto = obterPiloto(s, s.resultado(COL_RES_PILOTO, r));
+            Equipe equipe = obterEquipe(s, s.resultado(COL_RES_EQUIPE, r));
+            builder.addResultado(piloto, new ResultadoCorrida(
+                    s.resultado(COL_RES_POSICAO, r), s.tempoResultado(r), s.resultado(COL_RES_STATUS, r), equipe));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Corrida buscarCorridaBasica(int ano, int round) {
+        Snapshot s = aguardarCarga();
+        int linha = s.localizarCorrida(ano, round);
+        return linha < 0 ? null : cabecalho(s, linha).build();
+    }
+
+    @Override
+    public List<Corrida> buscarCorridasDoAno(int ano) {
+        Snapshot s = aguardarCarga();
+        List<Corrida> corridas = new ArrayList<>();
+        for (int linha = s.primeiraCorridaDoAno(ano); linha < s.nCorridas && s.corrida(COL_ANO, linha) == ano; linha++) {
+            corridas.add(cabecalho(s, linha).build());
+        }
+        return corridas;
+    }
+
+    private Corrida.CorridaBuilder cabecalho(Snapshot s, int linha) {
+        int segundoDoDia = s.corrida(COL_HORA, linha);
+        return new Corrida.CorridaBuilder()
+                .setId(s.corrida(COL_RACE_ID, linha))
+                .setAno(s.corrida(COL_ANO, linha))
+                .setRound(s.corrida(COL_ROUND, linha))
+                .setNome(s.texto(s.corrida(COL_NOME, linha)))
+                .setCircuito(s.texto(s.corrida(COL_CIRCUITO, linha)), s.texto(s.corrida(COL_PAIS, linha)))
+                .setDataHora(LocalDateTime.of(
+                        LocalDate.ofEpochDay(s.corrida(COL_DATA, linha)),
+                        segundoDoDia != SEM_VALOR ? LocalTime.ofSecondOfDay(segundoDoDia) : LocalTime.MIDNIGHT));
+    }
+
+    private Piloto obterPiloto(Snapshot s, int driverId) {
+        Piloto piloto = pilotos.get(driverId);
+        if (piloto != null) {
+            return piloto;
+        }
+        int linha = s.localizarPorId(s.offsetPilotos, s.nPilotos, driverId);
+        if (linha < 0) {
+            throw new IllegalArgumentException("Piloto inexistente ou inválido: " + driverId);
+        }
+        piloto = RegistroPilotos.montarPiloto(driverId,
+                s.texto(s.coluna(s.offsetPilotos, s.nPilotos, 1, linha)),
+                s.texto(s.coluna(s.offsetPilotos, s.nPilotos, 2, linha)),
+                s.texto(s.coluna(s.offsetPilotos, s.nPilotos, 3, linha)),
+                s.texto(s.coluna(s.offsetPilotos, s.nPilotos, 4, linha)),
+                s.texto(s.coluna(s.offsetPilotos, s.nPilotos, 5, linha)));
+        Piloto existente = pilotos.putIfAbsent(driverId, piloto);
+        return existente != null ? existente : piloto;
+    }
+
+    private Equipe obterEquipe(Snapshot s, int constructorId) {
+        Equipe equipe = equipes.get(constructorId);
+        if (equipe != null) {
+            return equipe;
+        }
+        int linha = s.localizarPorId(s.offsetEquipes, s.nEquipes, constructorId);
+        if (linha < 0) {
+            throw new IllegalArgumentException("Equipe inexistente ou inválida: " + constructorId);
+        }
+        equipe = new Equipe.EquipeBuilder()
+                .setId(constructorId)
+                .setNome(s.texto(s.coluna(s.offsetEquipes, s.nEquipes, 1, linha)))
+                .setNacionalidade(s.texto(s.coluna(s.offsetEquipes, s.nEquipes, 2, linha)))
+                .build();
+        Equipe existente = equipes.putIfAbsent(constructorId, equipe);
+        return existente != null ? existente : equipe;
+    }
+
+    /**
+     * Visão somente leitura do arquivo mapeado. Todas as leituras usam acesso absoluto ao
+     * buffer, então a mesma instância pode ser consultada por várias threads.
+     */
+    private static final class Snapshot {
+        private final MappedByteBuffer buffer;
+        private final int nStrings;
+        private final int nPilotos;
+        private final int nEquipes;
+        private final int nCorridas;
+        private final int nResultados;
+        private final int offsetDicionario;
+        private final int offsetPilotos;
+        private final int offsetEquipes;
+        private final int offsetCorridas;
+        private final int offsetResultados;
+        private final List<Integer> anos;
+
+        private Snapshot(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+            if (buffer.capacity() < TAMANHO_CABECALHO || buffer.getInt(0) != MAGICO) {
+                throw new IllegalStateException("Arquivo não é um snapshot de corridas");
+            }
+            if (buffer.getInt(4) != VERSAO) {
+                throw new IllegalStateException("Versão de snapshot não suportada: " + buffer.getInt(4));
+            }
+            this.nStrings = buffer.getInt(8);
+            this.nPilotos = buffer.getInt(12);
+            this.nEquipes = buffer.getInt(16);
+            this.nCorridas = buffer.getInt(20);
+            this.nResultados = buffer.getInt(24);
+            this.offsetDicionario = (int) buffer.getLong(28);
+            this.offsetPilotos = (int) buffer.getLong(36);
+            this.offsetEquipes = (int) buffer.getLong(44);
+            this.offsetCorridas = (int) buffer.getLong(52);
+            this.offsetResultados = (int) buffer.getLong(60);
+
+            long esperado = offsetResultados
+                    + (long) nResultados * (COLUNAS_INT_RESULTADOS * Integer.BYTES + Long.BYTES);
+            if (buffer.capacity() != esperado) {
+                throw new IllegalStateException("Snapshot truncado: " + buffer.capacity() + " de " + esperado + " bytes");
+            }
+
+            List<Integer> distintos = new ArrayList<>();
+            for (int linha = nCorridas - 1; linha >= 0; linha--) {
+                int ano = corrida(COL_ANO, linha);
+                if (distintos.isEmpty() || distintos.get(distintos.size() - 1) != ano) {
+                    distintos.add(ano);
+                }
+            }
+            this.anos = Collections.unmodifiableList(distintos);
+        }
+
+        static Snapshot mapear(Path arquivo) {
+            long inicio = System.nanoTime();
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                // O mapeamento continua válido depois que o canal é fechado
+                Snapshot snapshot = new Snapshot(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+                System.out.printf("Snapshot mapeado de %s em %d ms (%d corridas, %d resultados, %.2f MB)%n",
+                        arquivo, (System.nanoTime() - inicio) / 1_000_000, snapshot.nCorridas,
+                        snapshot.nResultados, snapshot.buffer.capacity() / 1_048_576.0);
+                return snapshot;
+            } catch (IOException e) {
+                throw new RuntimeException("Erro ao mapear snapshot " + arquivo + ": " + e.getMessage(), e);
+            }
+        }
+
+        int coluna(int offsetSecao, int linhas, int coluna, int linha) {
+            return buffer.getInt(offsetSecao + (coluna * linhas + linha) * Integer.BYTES);
+        }
+
+        int corrida(int coluna, int linha) {
+            return coluna(offsetCorridas, nCorridas, coluna, linha);
+        }
+
+        int resultado(int coluna, int linha) {
+            return coluna(offsetResultados, nResultados, coluna, linha);
+        }
+
+        long tempoResultado(int linha) {
+            int inicioColuna = offsetResultados + COLUNAS_INT_RESULTADOS * nResultados * Integer.BYTES;
+            return buffer.getLong(inicioColuna + linha * Long.BYTES);
+        }
+
+        String texto(int indice) {
+            if (indice == SEM_VALOR) {
+                return null;
+            }
+            if (indice < 0 || indice >= nStrings) {
+                throw new IllegalStateException("Índice de texto inválido: " + indice);
+            }
+            int bytesInicio = offsetDicionario + (nStrings + 1) * Integer.BYTES;
+            int de = buffer.getInt(offsetDicionario + indice * Integer.BYTES);
+            int ate = buffer.getInt(offsetDicionario + (indice + 1) * Integer.BYTES);
+            byte[] bytes = new byte[ate - de];
+            buffer.get(bytesInicio + de, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Busca binária na primeira coluna (id) de uma seção ordenada por id.
+         */
+        int localizarPorId(int offsetSecao, int linhas, int id) {
+            int baixo = 0;
+            int alto = linhas - 1;
+            while (baixo <= alto) {
+                int meio = (baixo + alto) >>> 1;
+                int valor = coluna(offsetSecao, linhas, 0, meio);
+                if (valor < id) {
+                    baixo = meio + 1;
+                } else if (valor > id) {
+                    alto = meio - 1;
+                } else {
+                    return meio;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Primeira linha com (year, round) maior ou igual ao informado.
+         */
+        int limiteInferior(int ano, int round) {
+            int baixo = 0;
+            int alto = nCorridas;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                int anoMeio = corrida(COL_ANO, meio);
+                if (anoMeio < ano || (anoMeio == ano && corrida(COL_ROUND, meio) < round)) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        int primeiraCorridaDoAno(int ano) {
+            return limiteInferior(ano, Integer.MIN_VALUE);
+        }
+
+        int localizarCorrida(int ano, int round) {
+            int linha = limiteInferior(ano, round);
+            return linha < nCorridas && corrida(COL_ANO, linha) == ano && corrida(COL_ROUND, linha) == round
+                    ? linha : -1;
+        }
+    }
+}
@@ -4,15 +4,32 @@ import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Gerencia a conexão com o banco SQLite.
+ * A conexão é estabelecida de forma assíncrona por {@link #iniciar()}, dentro de um orçamento
+ * de tempo limitado: erros definitivos (arquivo ausente, driver ausente, banco vazio) falham
+ * imediatamente, e apenas erros transitórios (banco ocupado/travado) são repetidos com backoff
+ * exponencial.
+ */
 public class DatabaseManager {
-    private static final int MAX_RETRY_ATTEMPTS = 103;
-    private static final int RETRY_DELAY_MS = 10000;
+    private static final long ORCAMENTO_INICIALIZACAO_MS = 15_000;
+    private static final long BACKOFF_INICIAL_MS = 100;
+    private static final long BACKOFF_MAXIMO_MS = 2_000;
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+    private static final int TAMANHO_POOL = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
     private static volatile DatabaseManager instancia;
     private Connection conexao;
+    private volatile String caminhoBanco;
+    private PoolConexoes poolLeitura;
+    private CompletableFuture<DatabaseManager> inicializacao;
 
     private DatabaseManager() {
-        inicializarConexao();
         configurarShutdownHook();
     }
 
@@ -27,56 +44,133 @@ public class DatabaseManager {
         return instancia;
     }
 
-    private void inicializarConexao() {
-        int attempts = 0;
-        Exception lastException = null;
+    /**
+     * Inicia (uma única vez) a conexão em uma thread de fundo.
+     *
+     * @return future concluído quando o banco estiver pronto, ou excepcionalmente
+     * se a conexão falhar dentro do orçamento de tempo
+     */
+    public synchronized CompletableFuture<DatabaseManager> iniciar() {
+        if (inicializacao == null || inicializacao.isCompletedExceptionally()) {
+            inicializacao = new CompletableFuture<>();
+            CompletableFuture<DatabaseManager> alvo = inicializacao;
+            Thread thread = new Thread(() -> {
+                try {
+                    inicializarConexao();
+                    alvo.complete(this);
+                } catch (Throwable t) {
+                    alvo.completeExceptionally(t);
+                }
+            }, "inicializacao-banco");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return inicializacao;
+    }
 
-        while (attempts < MAX_RETRY_ATTEMPTS) {
-            try {
-                // Ensure SQLite JDBC driver is loaded
-                Class.forName("org.sqlite.JDBC");
+    public boolean isPronto() {
+        CompletableFuture<DatabaseManager> atual;
+        synchronized (this) {
+            atual = inicializacao;
+        }
+        return atual != null && atual.isDone() && !atual.isCompletedExceptionally();
+    }
 
-                // Get database path from resources
-                var dbUrl = getClass().getResource("/data/f1db3.db");
-                if (dbUrl == null) {
-                    throw new RuntimeException("Banco de dados não encontrado no classpath");
-                }
+    /**
+     * Bloqueia até a inicialização terminar, no máximo pelo orçamento de tempo.
+     * Não pode ser chamado segurando o lock do DatabaseManager.
+     */
+    private void aguardarInicializacao() {
+        try {
+            iniciar().get(ORCAMENTO_INICIALIZACAO_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando o banco de dados", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Banco de dados indisponível: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Banco de dados não ficou disponível em " + ORCAMENTO_INICIALIZACAO_MS + " ms", e);
+        }
+    }
+
+    private void inicializarConexao() {
+        try {
+            // Ensure SQLite JDBC driver is loaded
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Driver SQLite não encontrado", e);
+        }
 
-                // Configure connection properties
-                Properties props = new Properties();
-                props.setProperty("journal_mode", "WAL");
-                props.setProperty("synchronous", "NORMAL");
-                props.setProperty("cache_size", "1000");
-                props.setProperty("foreign_keys", "ON");
+        // Get database path from resources
+        var dbUrl = getClass().getResource("/data/f1db3.db");
+        if (dbUrl == null) {
+            throw new RuntimeException("Banco de dados não encontrado no classpath. " +
+                    "Gere-o com ImportadorCSV a partir de data/*.csv");
+        }
 
-                // Establish connection
-                conexao = DriverManager.getConnection("jdbc:sqlite:" + dbUrl.getPath(), props);
-                conexao.setAutoCommit(true);
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ORCAMENTO_INICIALIZACAO_MS);
+        long backoff = BACKOFF_INICIAL_MS;
+        int tentativas = 0;
 
-                // Test connection
-                if (verificarConexao()) {
-                    return;
+        while (true) {
+            tentativas++;
+            try {
+                abrirConexao(dbUrl.getPath());
+                prepararEsquema();
+                return;
+            } catch (SQLException e) {
+                long restanteMs = TimeUnit.NANOSECONDS.toMillis(prazo - System.nanoTime());
+                if (!isErroTransitorio(e) || restanteMs <= backoff) {
+                    throw new RuntimeException("Falha ao estabelecer conexão após " + tentativas +
+                            " tentativa(s): " + e.getMessage(), e);
                 }
-
-            } catch (ClassNotFoundException e) {
-                throw new RuntimeException("Driver SQLite não encontrado", e);
-            } catch (SQLException | RuntimeException e) {
-                lastException = e;
-                attempts++;
-
-                if (attempts < MAX_RETRY_ATTEMPTS) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Interrompido durante tentativa de reconexão", ie);
-                    }
+                System.err.println("Banco ocupado, nova tentativa em " + backoff + " ms: " + e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrompido durante tentativa de reconexão", ie);
                 }
+                backoff = Math.min(BACKOFF_MAXIMO_MS, backoff * 2);
             }
         }
+    }
 
-        throw new RuntimeException("Falha ao estabelecer conexão após " + MAX_RETRY_ATTEMPTS +
-                " tentativas", lastException);
+    private synchronized void abrirConexao(String caminho) throws SQLException {
+        // Configure connection properties
+        Properties props = new Properties();
+        props.setProperty("journal_mode", "WAL");
+        props.setProperty("synchronous", "NORMAL");
+        props.setProperty("cache_size", "1000");
+        props.setProperty("foreign_keys", "ON");
+
+        // Establish connection
+        conexao = DriverManager.getConnection("jdbc:sqlite:" + caminho, props);
+        conexao.setAutoCommit(true);
+        caminhoBanco = caminho;
+
+        // Test connection
+        if (!verificarConexao()) {
+            fecharConexao();
+            throw new RuntimeException("Banco de dados vazio ou inválido: " + caminho);
+        }
+    }
+
+    /**
+     * Garante os índices das consultas quentes. Um banco somente leitura que ainda não os
+     * tenha continua utilizável, apenas mais lento.
+     */
+    private synchronized void prepararEsquema() {
+        try {
+            new PreparadorEsquema(conexao).preparar();
+        } catch (SQLException e) {
+            System.err.println("Não foi possível preparar o esquema do banco: " + e.getMessage());
+        }
+    }
+
+    private boolean isErroTransitorio(SQLException e) {
+        int codigo = e.getErrorCode() & 0xFF;
+        return codigo == SQLITE_BUSY || codigo == SQLITE_LOCKED;
     }
 
     private void configurarShutdownHook() {
@@ -86,18 +180,54 @@ public class DatabaseManager {
         }));
     }
 
-    public synchronized Connection getConexao() {
-        try {
-            if (conexao == null || conexao.isClosed()) {
-                inicializarConexao();
+    public Connection getConexao() {
+        aguardarInicializacao();
+        synchronized (this) {
+            try {
+                if (conexao == null || conexao.isClosed()) {
+                    abrirConexao(caminhoBanco);
+                }
+                return conexao;
+            } catch (SQLException e) {
+                throw new RuntimeException("Erro ao reabrir a conexão", e);
             }
-            return conexao;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao verificar estado da conexão", e);
+        }
+    }
+
+    /**
+     * Empresta uma conexão somente leitura do pool. Use em try-with-resources:
+     * fechar a conexão emprestada a devolve ao pool.
+     */
+    public PoolConexoes.ConexaoEmprestada emprestarConexao() {
+        return getPoolLeitura().emprestar();
+    }
+
+    /**
+     * Pool de leitura, exposto para consulta das métricas de conexões e statements.
+     */
+    public PoolConexoes getPoolLeitura() {
+        aguardarInicializacao();
+        synchronized (this) {
+            if (poolLeitura == null) {
+                poolLeitura = new PoolConexoes(caminhoBanco, TAMANHO_POOL);
+            }
+            return poolLeitura;
+        }
+    }
+
+    /**
+     * Descarta as conexões de leitura; necessário após reimportar o banco,
+     * já que elas são abertas como imutáveis.
+     */
+    public synchronized void reiniciarPool() {
+        if (poolLeitura != null) {
+            poolLeitura.fechar();
+            poolLeitura = null;
         }
     }
 
     public synchronized void fecharConexao() {
+        reiniciarPool();
         if (conexao != null) {
             try {
                 if (!conexao.isClosed()) {
@@ -128,7 +258,7 @@ public class DatabaseManager {
         }
     }
 
-    public synchronized List<String> listarTabelas() {
+    public List<String> listarTabelas() {
         List<String> tabelas = new ArrayList<>();
         try (Statement stmt = getConexao().createStatement();
              ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type='table'")) {
@@ -142,7 +272,7 @@ public class DatabaseManager {
         return tabelas;
     }
 
-    public synchronized void mostrarEstruturaDaTabela(String nomeTabela) {
+    public void mostrarEstruturaDaTabela(String nomeTabela) {
         if (nomeTabela == null || nomeTabela.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome da tabela não pode ser nulo ou vazio");
         }
@@ -177,7 +307,7 @@ public class DatabaseManager {
         }
     }
 
-    public synchronized void mostrarConteudoTabela(String nomeTabela) {
+    public void mostrarConteudoTabela(String nomeTabela) {
         if (nomeTabela == null || nomeTabela.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome da tabela não pode ser nulo ou vazio");
         }
@@ -0,0 +1,293 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Gera o snapshot colunar (f1db3.snap) lido pelo {@link CorridaDAOSnapshot}.
+ * <p>
+ * Layout do arquivo (big-endian):
+ * <pre>
+ * cabeçalho   MAGICO, VERSAO, nStrings, nPilotos, nEquipes, nCorridas, nResultados,
+ *             offsets (long) de dicionário, pilotos, equipes, corridas e resultados
+ * dicionário  int[nStrings + 1] offsets relativos, seguidos dos bytes UTF-8
+ * pilotos     colunas int: driverId, code, forename, surname, nationality, number
+ * equipes     colunas int: constructorId, name, nationality
+ * corridas    colunas int: raceId, year, round, name, circuit, country, data (epoch day),
+ *             hora (segundo do dia ou -1), início e quantidade dos resultados
+ * resultados  colunas int: driverId, constructorId, posição, statusId; coluna long: tempo (ms)
+ * </pre>
+ * Textos são índices no dicionário (-1 para nulo). Pilotos e equipes ficam ordenados por id,
+ * corridas por (year, round) e os resultados de cada corrida são contíguos e ordenados por posição.
+ */
+public class GravadorSnapshot {
+    static final int MAGICO = 0x46315331; // "F1S1"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 7 * Integer.BYTES + 5 * Long.BYTES;
+
+    static final int COLUNAS_PILOTOS = 6;
+    static final int COLUNAS_EQUIPES = 3;
+    static final int COLUNAS_CORRIDAS = 10;
+    static final int COLUNAS_INT_RESULTADOS = 4;
+
+    static final int SEM_VALOR = -1;
+    static final int POSICAO_SEM_CLASSIFICACAO = 999;
+
+    private final Connection conexao;
+    private final Map<String, Integer> indiceStrings = new HashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+
+    public GravadorSnapshot(Connection conexao) {
+        this.conexao = conexao;
+    }
+
+    /**
+     * Grava o snapshot em um arquivo temporário e o move sobre o destino ao final.
+     *
+     * @return tamanho do arquivo em bytes
+     */
+    public long gravar(Path destino) throws SQLException, IOException {
+        long inicio = System.nanoTime();
+
+        int[][] pilotos = lerColunas(
+                "SELECT driverId, code, forename, surname, nationality, number FROM drivers ORDER BY driverId",
+                COLUNAS_PILOTOS);
+        int[][] equipes = lerColunas(
+                "SELECT constructorId, name, nationality FROM constructors ORDER BY constructorId",
+                COLUNAS_EQUIPES);
+        int[][] corridas = lerCorridas();
+        Resultados resultados = lerResultados(corridas);
+
+        int nPilotos = pilotos[0].length;
+        int nEquipes = equipes[0].length;
+        int nCorridas = corridas[0].length;
+        int nResultados = resultados.driverId.length;
+
+        int tamanhoBytesStrings = 0;
+        for (byte[] s : strings) {
+            tamanhoBytesStrings += s.length;
+        }
+
+        long offsetDicionario = TAMANHO_CABECALHO;
+        long offsetPilotos = offsetDicionario + (long) (strings.size() + 1) * Integer.BYTES + tamanhoBytesStrings;
+        long offsetEquipes = offsetPilotos + (long) COLUNAS_PILOTOS * nPilotos * Integer.BYTES;
+        long offsetCorridas = offsetEquipes + (long) COLUNAS_EQUIPES * nEquipes * Integer.BYTES;
+        long offsetResultados = offsetCorridas + (long) COLUNAS_CORRIDAS * nCorridas * Integer.BYTES;
+        long tamanho = offsetResultados + (long) nResultados * (COLUNAS_INT_RESULTADOS * Integer.BYTES + Long.BYTES);
+        if (tamanho > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot excede 2 GB: " + tamanho + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) tamanho);
+        buffer.putInt(MAGICO).putInt(VERSAO)
+                .putInt(strings.size()).putInt(nPilotos).putInt(nEquipes).putInt(nCorridas).putInt(nResultados)
+                .putLong(offsetDicionario).putLong(offsetPilotos).putLong(offsetEquipes)
+                .putLong(offsetCorridas).putLong(offsetResultados);
+
+        int relativo = 0;
+        for (byte[] s : strings) {
+            buffer.putInt(relativo);
+            relativo += s.length;
+        }
+        buffer.putInt(relativo);
+        for (byte[] s : strings) {
+            buffer.put(s);
+        }
+
+        escreverColunas(buffer, pilotos);
+        escreverColunas(buffer, equipes);
+        escreverColunas(buffer, corridas);
+        escreverColunas(buffer, new int[][]{
+                resultados.driverId, resultados.constructorId, resultados.posicao, resultados.statusId});
+        for (long tempo : resultados.tempoMs) {
+            buffer.putLong(tempo);
+        }
+        buffer.flip();
+
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING);
+
+        System.out.printf("- snapshot: %d corridas, %d resultados, %d strings, %.2f MB em %d ms -> %s%n",
+                nCorridas, nResultados, strings.size(), tamanho / 1_048_576.0,
+                (System.nanoTime() - inicio) / 1_000_000, destino);
+        return tamanho;
+    }
+
+    /**
+     * Lê uma tabela pequena em colunas; a primeira coluna é o id e as demais são textos.
+     */
+    private int[][] lerColunas(String sql, int numeroColunas) throws SQLException {
+        List<int[]> linhas = new ArrayList<>();
+        try (Statement stmt = conexao.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                int[] linha = new int[numeroColunas];
+                linha[0] = rs.getInt(1);
+                for (int i = 1; i < numeroColunas; i++) {
+                    linha[i] = indexarString(rs.getString(i + 1));
+                }
+                linhas.add(linha);
+            }
+        }
+        return transpor(linhas, numeroColunas);
+    }
+
+    private int[][] lerCorridas() throws SQLException {
+        String sql = """
+                SELECT r.raceId, r.year, r.round, r.name, c.name, c.country, r.date, r.time
+                FROM races r
+                JOIN circuits c ON r.circuitId = c.circuitId
+                ORDER BY r.year, r.round
+                """;
+        List<int[]> linhas = new ArrayList<>();
+        try (Statement stmt = conexao.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                String time = rs.getString(8);
+                linhas.add(new int[]{
+                        rs.getInt(1), rs.getInt(2), rs.getInt(3),
+                        indexarString(rs.getString(4)), indexarString(rs.getString(5)), indexarString(rs.getString(6)),
+                        (int) LocalDate.parse(rs.getString(7)).toEpochDay(),
+                        time != null && !time.equals("\\N") ? LocalTime.parse(time).toSecondOfDay() : SEM_VALOR,
+                        0, 0
+                });
+            }
+        }
+        return transpor(linhas, COLUNAS_CORRIDAS);
+    }
+
+    /**
+     * Lê os resultados agrupados na ordem das corridas e preenche as colunas de início e
+     * quantidade de cada corrida.
+     */
+    private Resultados lerResultados(int[][] corridas) throws SQLException {
+        String sql = """
+                SELECT raceId, driverId, constructorId, position, milliseconds, statusId
+                FROM results
+                ORDER BY raceId, resultId
+                """;
+        Map<Integer, List<long[]>> porCorrida = new HashMap<>();
+        int total = 0;
+        try (Statement stmt = conexao.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                porCorrida.computeIfAbsent(rs.getInt(1), k -> new ArrayList<>()).add(new long[]{
+                        rs.getInt(2), rs.getInt(3),
+                        parseNumero(rs.getString(4), POSICAO_SEM_CLASSIFICACAO),
+                        parseNumero(rs.getString(5), 0),
+                        rs.getInt(6)
+                });
+                total++;
+            }
+        }
+
+        Resultados resultados = new Resultados(total);
+        int[] raceIds = corridas[0];
+        int[] inicios = corridas[COLUNAS_CORRIDAS - 2];
+        int[] quantidades = corridas[COLUNAS_CORRIDAS - 1];
+        int linha = 0;
+        for (int i = 0; i < raceIds.length; i++) {
+            List<long[]> lista = porCorrida.getOrDefault(raceIds[i], List.of());
+            List<long[]> ordenada = new ArrayList<>(lista);
+            ordenada.sort(Comparator.comparingLong(r -> r[2]));
+            inicios[i] = linha;
+            quantidades[i] = ordenada.size();
+            for (long[] r : ordenada) {
+                resultados.driverId[linha] = (int) r[0];
+                resultados.constructorId[linha] = (int) r[1];
+                resultados.posicao[linha] = (int) r[2];
+                resultados.tempoMs[linha] = r[3];
+                resultados.statusId[linha] = (int) r[4];
+                linha++;
+            }
+        }
+
+        // Resultados de corridas sem cabeçalho em races são descartados
+        return linha == total ? resultados : resultados.truncar(linha);
+    }
+
+    private int indexarString(String valor) {
+        if (valor == null || valor.equals("\\N")) {
+            return SEM_VALOR;
+        }
+        return indiceStrings.computeIfAbsent(valor, v -> {
+            strings.add(v.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+
+    private static long parseNumero(String valor, long padrao) {
+        if (valor == null || valor.equals("\\N")) {
+            return padrao;
+        }
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            return padrao;
+        }
+    }
+
+    private static int[][] transpor(List<int[]> linhas, int numeroColunas) {
+        int[][] colunas = new int[numeroColunas][linhas.size()];
+        for (int i = 0; i < linhas.size(); i++) {
+            int[] linha = linhas.get(i);
+            for (int c = 0; c < numeroColunas; c++) {
+                colunas[c][i] = linha[c];
+            }
+        }
+        return colunas;
+    }
+
+    private static void escreverColunas(ByteBuffer buffer, int[][] colunas) {
+        for (int[] coluna : colunas) {
+            for (int valor : coluna) {
+                buffer.putInt(valor);
+            }
+        }
+    }
+
+    private static final class Resultados {
+        private final int[] driverId;
+        private final int[] constructorId;
+        private final int[] posicao;
+        private final long[] tempoMs;
+        private final int[] statusId;
+
+        private Resultados(int tamanho) {
+            this(new int[tamanho], new int[tamanho], new int[tamanho], new long[tamanho], new int[tamanho]);
+        }
+
+        private Resultados(int[] driverId, int[] constructorId, int[] posicao, long[] tempoMs, int[] statusId) {
+            this.driverId = driverId;
+            this.constructorId = constructorId;
+            this.posicao = posicao;
+            this.tempoMs = tempoMs;
+            this.statusId = statusId;
+        }
+
+        private Resultados truncar(int tamanho) {
+            return new Resultados(Arrays.copyOf(driverId, tamanho), Arrays.copyOf(constructorId, tamanho),
+                    Arrays.copyOf(posicao, tamanho), Arrays.copyOf(tempoMs, tamanho), Arrays.copyOf(statusId, tamanho));
+        }
+    }
+}
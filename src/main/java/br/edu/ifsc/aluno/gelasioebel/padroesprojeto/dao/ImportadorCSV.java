@@ -0,0 +1,220 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reconstrói o banco SQLite (f1db3.db) a partir dos CSVs do Ergast em data/.
+ * Cada arquivo é percorrido pelo {@link TokenizadorCSV} e gravado com PreparedStatements em lote,
+ * uma transação por tabela, com journal e sincronização desligados durante a carga.
+ * Ao final também grava, ao lado do banco, o snapshot colunar usado pelo {@link CorridaDAOSnapshot}.
+ */
+public class ImportadorCSV {
+    private static final String[] TABELAS = {
+            "circuits", "constructors", "drivers", "seasons", "status", "races",
+            "results", "sprint_results", "qualifying", "pit_stops",
+            "driver_standings", "constructor_standings", "constructor_results"
+    };
+    private static final int TAMANHO_LOTE = 1000;
+
+    private final Path diretorioCsv;
+
+    public ImportadorCSV(Path diretorioCsv) {
+        if (diretorioCsv == null || !Files.isDirectory(diretorioCsv)) {
+            throw new IllegalArgumentException("Diretório de CSVs inválido: " + diretorioCsv);
+        }
+        this.diretorioCsv = diretorioCsv;
+    }
+
+    /**
+     * Importa todas as tabelas para o arquivo de destino, substituindo-o apenas
+     * quando a carga termina com sucesso.
+     *
+     * @param arquivoDestino caminho do banco SQLite a ser gerado
+     * @return total de linhas importadas
+     */
+    public long importar(Path arquivoDestino) {
+        Path temporario = arquivoDestino.resolveSibling(arquivoDestino.getFileName() + ".tmp");
+        Path snapshot = caminhoSnapshot(arquivoDestino);
+        long inicio = System.nanoTime();
+        long totalLinhas = 0;
+
+        try {
+            Files.createDirectories(arquivoDestino.toAbsolutePath().getParent());
+            Files.deleteIfExists(temporario);
+
+            try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + temporario)) {
+                configurarPragmasCarga(conn);
+                for (String tabela : TABELAS) {
+                    Path arquivoCsv = diretorioCsv.resolve(tabela + ".csv");
+                    if (!Files.exists(arquivoCsv)) {
+                        System.err.println("CSV não encontrado, ignorando: " + arquivoCsv);
+                        continue;
+                    }
+                    totalLinhas += importarTabela(conn, tabela, arquivoCsv);
+                }
+                new PreparadorEsquema(conn).preparar();
+                restaurarPragmas(conn);
+                new GravadorSnapshot(conn).gravar(snapshot);
+            }
+
+            Files.move(temporario, arquivoDestino, StandardCopyOption.REPLACE_EXISTING);
+            CacheCorridas.getInstancia().invalidar();
+            RegistroPilotos.getInstancia().invalidar();
+            RegistroEquipes.getInstancia().invalidar();
+            DatabaseManager.getInstancia().reiniciarPool();
+            CorridaDAOSnapshot.getInstancia().invalidar();
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Erro ao importar CSVs: " + e.getMessage(), e);
+        }
+
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("Importação concluída: %d linhas em %.2fs (%.0f linhas/s) -> %s%n",
+                totalLinhas, segundos, totalLinhas / segundos, arquivoDestino);
+        return totalLinhas;
+    }
+
+    /**
+     * O snapshot fica ao lado do banco, com o mesmo nome e extensão .snap.
+     */
+    static Path caminhoSnapshot(Path arquivoBanco) {
+        String nome = arquivoBanco.getFileName().toString();
+        int ponto = nome.lastIndexOf('.');
+        return arquivoBanco.resolveSibling((ponto > 0 ? nome.substring(0, ponto) : nome) + ".snap");
+    }
+
+    private long importarTabela(Connection conn, String tabela, Path arquivoCsv) throws SQLException, IOException {
+        long inicio = System.nanoTime();
+        long linhas = 0;
+
+        TokenizadorCSV csv = TokenizadorCSV.abrir(arquivoCsv);
+        String[] cabecalho = csv.lerCabecalho();
+        if (cabecalho.length == 0) {
+            return 0;
+        }
+
+        try {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("DROP TABLE IF EXISTS " + tabela);
+                stmt.executeUpdate(montarCreateTable(tabela, cabecalho, inferirTipos(csv, cabecalho.length)));
+            }
+
+            try (PreparedStatement insert = conn.prepareStatement(montarInsert(tabela, cabecalho))) {
+                while (csv.proximaLinha()) {
+                    vincularLinha(insert, csv, cabecalho.length);
+                    insert.addBatch();
+                    if (++linhas % TAMANHO_LOTE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+
+        System.out.printf("- %s: %d linhas em %d ms [%s]%n", tabela, linhas,
+                (System.nanoTime() - inicio) / 1_000_000, csv.relatorio());
+        return linhas;
+    }
+
+    /**
+     * Vincula os campos direto dos bytes do CSV: "\N" vira NULL, números sem aspas são
+     * gravados como INTEGER/REAL sem passar por String, e o restante como texto.
+     */
+    private void vincularLinha(PreparedStatement insert, TokenizadorCSV csv, int colunas) throws SQLException {
+        int i = 0;
+        while (i < colunas && csv.proximoCampo()) {
+            int parametro = ++i;
+            if (csv.isNulo()) {
+                insert.setNull(parametro, Types.NULL);
+            } else if (csv.isEntreAspas()) {
+                insert.setString(parametro, csv.campoString());
+            } else if (csv.isInteiro()) {
+                insert.setLong(parametro, csv.campoLong());
+            } else if (csv.isReal()) {
+                insert.setDouble(parametro, csv.campoDouble());
+            } else {
+                insert.setString(parametro, csv.campoString());
+            }
+        }
+        while (i < colunas) {
+            insert.setNull(++i, Types.NULL);
+        }
+    }
+
+    /**
+     * Infere a afinidade de cada coluna pela primeira linha de dados, para que year/round/ids
+     * sejam comparados e ordenados como números. A leitura volta ao início da linha depois.
+     */
+    private String[] inferirTipos(TokenizadorCSV csv, int colunas) {
+        String[] tipos = new String[colunas];
+        Arrays.fill(tipos, "TEXT");
+        int inicioLinha = csv.getPosicao();
+        if (csv.proximaLinha()) {
+            for (int i = 0; i < colunas && csv.proximoCampo(); i++) {
+                if (csv.isNulo()) {
+                    continue;
+                }
+                if (csv.isInteiro()) {
+                    tipos[i] = "INTEGER";
+                } else if (csv.isReal()) {
+                    tipos[i] = "REAL";
+                }
+            }
+        }
+        csv.setPosicao(inicioLinha);
+        return tipos;
+    }
+
+    private String montarCreateTable(String tabela, String[] cabecalho, String[] tipos) {
+        List<String> colunas = new ArrayList<>();
+        for (int i = 0; i < cabecalho.length; i++) {
+            colunas.add(cabecalho[i] + " " + tipos[i]);
+        }
+        return "CREATE TABLE " + tabela + " (" + String.join(", ", colunas) + ")";
+    }
+
+    private String montarInsert(String tabela, String[] cabecalho) {
+        String marcadores = String.join(", ", Collections.nCopies(cabecalho.length, "?"));
+        return "INSERT INTO " + tabela + " VALUES (" + marcadores + ")";
+    }
+
+    private void configurarPragmasCarga(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA journal_mode = OFF");
+            stmt.execute("PRAGMA synchronous = OFF");
+            stmt.execute("PRAGMA temp_store = MEMORY");
+            stmt.execute("PRAGMA cache_size = -65536");
+        }
+    }
+
+    private void restaurarPragmas(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA synchronous = FULL");
+            stmt.execute("PRAGMA journal_mode = DELETE");
+        }
+    }
+
+    /**
+     * Uso: ImportadorCSV [diretorioCsv] [arquivoDestino]
+     */
+    public static void main(String[] args) {
+        Path diretorio = Paths.get(args.length > 0 ? args[0] : "data");
+        Path destino = Paths.get(args.length > 1 ? args[1] : "src/main/resources/data/f1db3.db");
+        new ImportadorCSV(diretorio).importar(destino);
+    }
+}
@@ -0,0 +1,244 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteOpenMode;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool pequeno de conexões SQLite somente leitura.
+ * As conexões são abertas sob demanda (até o tamanho máximo) com immutable=1, query_only
+ * e cache compartilhado, e cada thread empresta uma conexão exclusiva enquanto consulta,
+ * permitindo leituras em paralelo sem fechar a conexão ao final de cada DAO.
+ * Cada conexão mantém seu próprio cache de PreparedStatements, preparados uma única vez.
+ */
+public class PoolConexoes {
+    private static final long TIMEOUT_EMPRESTIMO_MS = 5_000;
+
+    private final String caminhoBanco;
+    private final int tamanhoMaximo;
+    private final BlockingQueue<ConexaoPoolada> disponiveis;
+    private final AtomicInteger abertas = new AtomicInteger();
+    private final LongAdder acertosStatements = new LongAdder();
+    private final LongAdder falhasStatements = new LongAdder();
+    private final LongAdder nanosPreparo = new LongAdder();
+    private volatile boolean fechado;
+
+    PoolConexoes(String caminhoBanco, int tamanhoMaximo) {
+        if (tamanhoMaximo <= 0) {
+            throw new IllegalArgumentException("Tamanho do pool deve ser positivo");
+        }
+        this.caminhoBanco = caminhoBanco;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.disponiveis = new ArrayBlockingQueue<>(tamanhoMaximo);
+    }
+
+    /**
+     * Empresta uma conexão do pool, abrindo uma nova se ainda houver espaço.
+     * A conexão volta ao pool quando a {@link ConexaoEmprestada} é fechada.
+     */
+    public ConexaoEmprestada emprestar() {
+        if (fechado) {
+            throw new IllegalStateException("Pool de conexões fechado");
+        }
+
+        ConexaoPoolada conexao = disponiveis.poll();
+        if (conexao == null) {
+            conexao = abrirSeHouverEspaco();
+        }
+
+        try {
+            if (conexao == null) {
+                conexao = disponiveis.poll(TIMEOUT_EMPRESTIMO_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando conexão do pool", e);
+        }
+
+        if (conexao == null) {
+            throw new RuntimeException("Nenhuma conexão disponível após " + TIMEOUT_EMPRESTIMO_MS + " ms");
+        }
+        return new ConexaoEmprestada(this, conexao);
+    }
+
+    private ConexaoPoolada abrirSeHouverEspaco() {
+        while (true) {
+            int atual = abertas.get();
+            if (atual >= tamanhoMaximo) {
+                return null;
+            }
+            if (abertas.compareAndSet(atual, atual + 1)) {
+                break;
+            }
+        }
+
+        try {
+            return new ConexaoPoolada(abrirConexao());
+        } catch (SQLException e) {
+            abertas.decrementAndGet();
+            throw new RuntimeException("Erro ao abrir conexão somente leitura: " + e.getMessage(), e);
+        }
+    }
+
+    private Connection abrirConexao() throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setReadOnly(true);
+        config.setSharedCache(true);
+        config.setOpenMode(SQLiteOpenMode.OPEN_URI);
+
+        Connection conexao = DriverManager.getConnection(
+                "jdbc:sqlite:file:" + caminhoBanco + "?immutable=1", config.toProperties());
+        try (Statement stmt = conexao.createStatement()) {
+            stmt.execute("PRAGMA query_only = 1");
+        }
+        return conexao;
+    }
+
+    private void devolver(ConexaoPoolada conexao) {
+        boolean valida;
+        try {
+            valida = !fechado && !conexao.conexao.isClosed() && conexao.conexao.getAutoCommit();
+        } catch (SQLException e) {
+            valida = false;
+        }
+
+        if (!valida || !disponiveis.offer(conexao)) {
+            descartar(conexao);
+        }
+    }
+
+    private void descartar(ConexaoPoolada conexao) {
+        abertas.decrementAndGet();
+        try {
+            // Fechar a conexão fecha também os statements em cache
+            conexao.conexao.close();
+        } catch (SQLException e) {
+            System.err.println("Erro ao fechar conexão do pool: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fecha todas as conexões ociosas; conexões emprestadas são fechadas ao serem devolvidas.
+     */
+    public void fechar() {
+        fechado = true;
+        ConexaoPoolada conexao;
+        while ((conexao = disponiveis.poll()) != null) {
+            descartar(conexao);
+        }
+    }
+
+    public int getConexoesAbertas() {
+        return abertas.get();
+    }
+
+    public int getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public long getAcertosStatements() {
+        return acertosStatements.sum();
+    }
+
+    public long getFalhasStatements() {
+        return falhasStatements.sum();
+    }
+
+    /**
+     * Tempo total gasto preparando statements (somente nas falhas do cache).
+     */
+    public long getTempoPreparoNanos() {
+        return nanosPreparo.sum();
+    }
+
+    @Override
+    public String toString() {
+        long falhas = falhasStatements.sum();
+        return String.format("PoolConexoes{abertas=%d/%d, statements: acertos=%d, falhas=%d, preparo médio=%.1f µs}",
+                abertas.get(), tamanhoMaximo, acertosStatements.sum(), falhas,
+                falhas == 0 ? 0.0 : nanosPreparo.sum() / 1_000.0 / falhas);
+    }
+
+    /**
+     * Conexão física do pool junto com seus statements já preparados.
+     */
+    private static final class ConexaoPoolada {
+        private final Connection conexao;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        private ConexaoPoolada(Connection conexao) {
+            this.conexao = conexao;
+        }
+    }
+
+    /**
+     * Conexão emprestada do pool. Deve ser usada em try-with-resources:
+     * fechar devolve a conexão ao pool em vez de encerrá-la.
+     */
+    public static final class ConexaoEmprestada implements AutoCloseable {
+        private final PoolConexoes pool;
+        private ConexaoPoolada conexao;
+
+        private ConexaoEmprestada(PoolConexoes pool, ConexaoPoolada conexao) {
+            this.pool = pool;
+            this.conexao = conexao;
+        }
+
+        public Connection getConexao() {
+            return getConexaoPoolada().conexao;
+        }
+
+        private ConexaoPoolada getConexaoPoolada() {
+            if (conexao == null) {
+                throw new IllegalStateException("Conexão já devolvida ao pool");
+            }
+            return conexao;
+        }
+
+        /**
+         * Retorna o PreparedStatement em cache desta conexão, preparando-o na primeira vez.
+         * O statement pertence ao cache: não deve ser fechado por quem chama, apenas
+         * o ResultSet gerado por ele.
+         */
+        public PreparedStatement preparar(String sql) throws SQLException {
+            ConexaoPoolada poolada = getConexaoPoolada();
+            PreparedStatement stmt = poolada.statements.get(sql);
+            if (stmt != null && !stmt.isClosed()) {
+                stmt.clearParameters();
+                pool.acertosStatements.increment();
+                return stmt;
+            }
+
+            long inicio = System.nanoTime();
+            stmt = poolada.conexao.prepareStatement(sql);
+            pool.nanosPreparo.add(System.nanoTime() - inicio);
+            pool.falhasStatements.increment();
+            poolada.statements.put(sql, stmt);
+            return stmt;
+        }
+
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            return getConexao().prepareStatement(sql);
+        }
+
+        public Statement createStatement() throws SQLException {
+            return getConexao().createStatement();
+        }
+
+        @Override
+        public void close() {
+            if (conexao != null) {
+                pool.devolver(conexao);
+                conexao = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepara o esquema para as consultas quentes do CorridaDAO: cria os índices de cobertura,
+ * executa ANALYZE e confere com EXPLAIN QUERY PLAN que nenhuma delas faz varredura completa
+ * de tabela. É executado ao final da importação e, de forma idempotente, na inicialização.
+ */
+public class PreparadorEsquema {
+    private static final String[] INDICES = {
+            // races: busca por (year, round) e listagem de anos/rounds sem tocar na tabela
+            "CREATE INDEX IF NOT EXISTS idx_races_year_round ON races(year, round, raceId, circuitId, name, date, time)",
+            // results: todos os resultados de uma corrida direto do índice
+            "CREATE INDEX IF NOT EXISTS idx_results_race ON results(raceId, driverId, constructorId, position, positionText, milliseconds, statusId)",
+            // chaves de junção
+            "CREATE INDEX IF NOT EXISTS idx_circuits_id ON circuits(circuitId, name, country)",
+            "CREATE UNIQUE INDEX IF NOT EXISTS idx_drivers_id ON drivers(driverId)",
+            "CREATE UNIQUE INDEX IF NOT EXISTS idx_constructors_id ON constructors(constructorId)",
+            "CREATE UNIQUE INDEX IF NOT EXISTS idx_status_id ON status(statusId)"
+    };
+
+    private final Connection conexao;
+
+    public PreparadorEsquema(Connection conexao) {
+        if (conexao == null) {
+            throw new IllegalArgumentException("Conexão não pode ser null");
+        }
+        this.conexao = conexao;
+    }
+
+    /**
+     * Cria os índices ausentes, atualiza as estatísticas quando necessário e verifica os planos.
+     *
+     * @return lista de consultas cujo plano ainda contém varredura completa de tabela
+     */
+    public List<String> preparar() throws SQLException {
+        boolean criouIndices = criarIndices();
+        if (criouIndices || !possuiEstatisticas()) {
+            try (Statement stmt = conexao.createStatement()) {
+                stmt.execute("ANALYZE");
+            }
+        }
+        return verificarPlanos();
+    }
+
+    private boolean criarIndices() throws SQLException {
+        int antes = contarIndices();
+        try (Statement stmt = conexao.createStatement()) {
+            for (String ddl : INDICES) {
+                stmt.executeUpdate(ddl);
+            }
+        }
+        return contarIndices() > antes;
+    }
+
+    private int contarIndices() throws SQLException {
+        try (Statement stmt = conexao.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM sqlite_master WHERE type = 'index'")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private boolean possuiEstatisticas() throws SQLException {
+        try (Statement stmt = conexao.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT name FROM sqlite_master WHERE type = 'table' AND name = 'sqlite_stat1'")) {
+            return rs.next();
+        }
+    }
+
+    /**
+     * Executa EXPLAIN QUERY PLAN em cada consulta quente e aponta as que fazem SCAN sem índice.
+     */
+    public List<String> verificarPlanos() throws SQLException {
+        Map<String, String> consultas = new LinkedHashMap<>();
+        consultas.put("buscarAnosDisponiveis", CorridaDAOSQLite.SQL_ANOS_DISPONIVEIS);
+        consultas.put("buscarRoundsDoAno", CorridaDAOSQLite.SQL_ROUNDS_DO_ANO);
+        consultas.put("buscarCorrida", CorridaDAOSQLite.SQL_CORRIDA);
+        consultas.put("buscarCorridaBasica", CorridaDAOSQLite.SQL_CORRIDA_BASICA);
+        consultas.put("buscarCorridasDoAno", CorridaDAOSQLite.SQL_CORRIDAS_DO_ANO);
+
+        List<String> problemas = new ArrayList<>();
+        for (Map.Entry<String, String> consulta : consultas.entrySet()) {
+            try (PreparedStatement stmt = conexao.prepareStatement("EXPLAIN QUERY PLAN " + consulta.getValue());
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String detalhe = rs.getString("detail");
+                    if (detalhe.startsWith("SCAN") && !detalhe.contains("INDEX")) {
+                        problemas.add(consulta.getKey() + ": " + detalhe);
+                    }
+                }
+            }
+        }
+
+        for (String problema : problemas) {
+            System.err.println("Varredura completa em consulta quente -> " + problema);
+        }
+        return problemas;
+    }
+}
@@ -0,0 +1,87 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Equipe;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registro Flyweight das equipes: cada constructorId tem uma única instância de Equipe,
+ * carregada uma vez da tabela constructors e compartilhada por todas as corridas.
+ */
+public class RegistroEquipes {
+    private static class SingletonHelper {
+        private static final RegistroEquipes INSTANCE = new RegistroEquipes();
+    }
+
+    public static RegistroEquipes getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    private volatile Map<Integer, Equipe> equipes;
+
+    private RegistroEquipes() {
+    }
+
+    /**
+     * Retorna a instância canônica da equipe.
+     *
+     * @throws IllegalArgumentException se a equipe não existir ou tiver dados inválidos
+     */
+    public Equipe obter(int constructorId) {
+        Equipe equipe = getEquipes().get(constructorId);
+        if (equipe == null) {
+            throw new IllegalArgumentException("Equipe inexistente ou inválida: " + constructorId);
+        }
+        return equipe;
+    }
+
+    public Map<Integer, Equipe> getEquipes() {
+        Map<Integer, Equipe> atual = equipes;
+        if (atual == null) {
+            synchronized (this) {
+                atual = equipes;
+                if (atual == null) {
+                    atual = carregar();
+                    equipes = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Descarta o registro; a próxima consulta recarrega a tabela constructors.
+     */
+    public void invalidar() {
+        equipes = null;
+    }
+
+    private Map<Integer, Equipe> carregar() {
+        String sql = "SELECT constructorId, name, nationality FROM constructors";
+        Map<Integer, Equipe> carregadas = new HashMap<>();
+        try (PoolConexoes.ConexaoEmprestada conn = DatabaseManager.getInstancia().emprestarConexao();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                int constructorId = rs.getInt("constructorId");
+                try {
+                    carregadas.put(constructorId, new Equipe.EquipeBuilder()
+                            .setId(constructorId)
+                            .setNome(rs.getString("name"))
+                            .setNacionalidade(rs.getString("nationality"))
+                            .build());
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Equipe ignorada (id=" + constructorId + "): " + e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao carregar equipes: " + e.getMessage(), e);
+        }
+        return Collections.unmodifiableMap(carregadas);
+    }
+}
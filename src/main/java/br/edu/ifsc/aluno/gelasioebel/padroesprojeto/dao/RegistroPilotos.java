@@ -0,0 +1,105 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registro Flyweight dos pilotos: cada driverId tem uma única instância de Piloto,
+ * carregada uma vez da tabela drivers e compartilhada por todas as corridas.
+ */
+public class RegistroPilotos {
+    private static class SingletonHelper {
+        private static final RegistroPilotos INSTANCE = new RegistroPilotos();
+    }
+
+    public static RegistroPilotos getInstancia() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    private volatile Map<Integer, Piloto> pilotos;
+
+    private RegistroPilotos() {
+    }
+
+    /**
+     * Retorna a instância canônica do piloto.
+     *
+     * @throws IllegalArgumentException se o piloto não existir ou tiver dados inválidos
+     */
+    public Piloto obter(int driverId) {
+        Piloto piloto = getPilotos().get(driverId);
+        if (piloto == null) {
+            throw new IllegalArgumentException("Piloto inexistente ou inválido: " + driverId);
+        }
+        return piloto;
+    }
+
+    public Map<Integer, Piloto> getPilotos() {
+        Map<Integer, Piloto> atual = pilotos;
+        if (atual == null) {
+            synchronized (this) {
+                atual = pilotos;
+                if (atual == null) {
+                    atual = carregar();
+                    pilotos = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Descarta o registro; a próxima consulta recarrega a tabela drivers.
+     */
+    public void invalidar() {
+        pilotos = null;
+    }
+
+    private Map<Integer, Piloto> carregar() {
+        String sql = "SELECT driverId, code, forename, surname, nationality, number FROM drivers";
+        Map<Integer, Piloto> carregados = new HashMap<>();
+        try (PoolConexoes.ConexaoEmprestada conn = DatabaseManager.getInstancia().emprestarConexao();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                int driverId = rs.getInt("driverId");
+                try {
+                    carregados.put(driverId, montarPiloto(driverId, rs.getString("code"),
+                            rs.getString("forename"), rs.getString("surname"),
+                            rs.getString("nationality"), rs.getString("number")));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Piloto ignorado (id=" + driverId + "): " + e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao carregar pilotos: " + e.getMessage(), e);
+        }
+        return Collections.unmodifiableMap(carregados);
+    }
+
+    /**
+     * Monta o Piloto a partir das colunas da tabela drivers, usando as três primeiras
+     * letras do sobrenome quando o código não estiver preenchido.
+     * Compartilhado com as fontes de dados que não usam SQLite.
+     */
+    static Piloto montarPiloto(int driverId, String driverCode, String forename, String surname,
+                               String nationality, String number) {
+        String finalCode = (driverCode != null && !driverCode.equals("\\N")) ?
+                driverCode :
+                surname.substring(0, Math.min(3, surname.length())).toUpperCase();
+
+        return new Piloto.PilotoBuilder()
+                .setId(driverId)
+                .setCodigo(finalCode)
+                .setNome(forename, surname)
+                .setNacionalidade(nationality)
+                .setNumero(number != null && !number.equals("\\N") ? number : "")
+                .build();
+    }
+}
@@ -0,0 +1,328 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.dao;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tokenizador de CSV (RFC 4180) que trabalha direto sobre os bytes do arquivo.
+ * Campos inteiros, longos, reais e o sentinela "\N" do Ergast são interpretados sem criar
+ * uma String por célula; apenas {@link #campoString()} aloca. Uma instância percorre o
+ * arquivo uma vez, linha a linha e campo a campo, e não é thread-safe.
+ */
+public class TokenizadorCSV {
+    private static final byte SEPARADOR = ',';
+    private static final byte ASPAS = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final String nome;
+    private final byte[] dados;
+    private final int tamanho;
+    private final long inicioNanos;
+    private int posicao;
+    private int inicioCampo;
+    private int fimCampo;
+    private boolean campoEntreAspas;
+    private boolean aspasEscapadas;
+    private boolean fimDeLinha;
+
+    public TokenizadorCSV(String nome, byte[] dados) {
+        if (dados == null) {
+            throw new IllegalArgumentException("Dados não podem ser null");
+        }
+        this.nome = nome;
+        this.dados = dados;
+        this.tamanho = dados.length;
+        this.inicioNanos = System.nanoTime();
+        this.fimDeLinha = true;
+        // Ignora o BOM UTF-8, se houver
+        if (tamanho >= 3 && (dados[0] & 0xFF) == 0xEF && (dados[1] & 0xFF) == 0xBB && (dados[2] & 0xFF) == 0xBF) {
+            posicao = 3;
+        }
+    }
+
+    public static TokenizadorCSV abrir(Path arquivo) throws IOException {
+        return new TokenizadorCSV(arquivo.getFileName().toString(), Files.readAllBytes(arquivo));
+    }
+
+    /**
+     * Lê a primeira linha como cabeçalho.
+     *
+     * @return nomes das colunas, ou array vazio se o arquivo estiver vazio
+     */
+    public String[] lerCabecalho() {
+        if (!proximaLinha()) {
+            return new String[0];
+        }
+        List<String> colunas = new ArrayList<>();
+        while (proximoCampo()) {
+            colunas.add(campoString().trim());
+        }
+        return colunas.toArray(new String[0]);
+    }
+
+    /**
+     * Avança para o início da próxima linha não vazia, descartando campos não lidos da atual.
+     *
+     * @return false ao chegar ao fim do arquivo
+     */
+    public boolean proximaLinha() {
+        while (!fimDeLinha) {
+            proximoCampo();
+        }
+        while (posicao < tamanho && (dados[posicao] == CR || dados[posicao] == LF)) {
+            posicao++;
+        }
+        if (posicao >= tamanho) {
+            return false;
+        }
+        fimDeLinha = false;
+        return true;
+    }
+
+    /**
+     * Delimita o próximo campo da linha atual.
+     *
+     * @return false quando não há mais campos na linha
+     */
+    public boolean proximoCampo() {
+        if (fimDeLinha) {
+            return false;
+        }
+
+        campoEntreAspas = posicao < tamanho && dados[posicao] == ASPAS;
+        aspasEscapadas = false;
+
+        if (campoEntreAspas) {
+            int i = posicao + 1;
+            inicioCampo = i;
+            while (i < tamanho) {
+                if (dados[i] == ASPAS) {
+                    if (i + 1 < tamanho && dados[i + 1] == ASPAS) {
+                        aspasEscapadas = true;
+                        i += 2;
+                        continue;
+                    }
+                    break;
+                }
+                i++;
+            }
+            fimCampo = Math.min(i, tamanho);
+            posicao = Math.min(i + 1, tamanho);
+            // Ignora qualquer lixo entre a aspa final e o separador
+            while (posicao < tamanho && dados[posicao] != SEPARADOR && dados[posicao] != LF && dados[posicao] != CR) {
+                posicao++;
+            }
+        } else {
+            inicioCampo = posicao;
+            int i = posicao;
+            while (i < tamanho && dados[i] != SEPARADOR && dados[i] != LF && dados[i] != CR) {
+                i++;
+            }
+            fimCampo = i;
+            posicao = i;
+        }
+
+        if (posicao < tamanho && dados[posicao] == SEPARADOR) {
+            posicao++;
+        } else {
+            fimDeLinha = true;
+        }
+        return true;
+    }
+
+    /**
+     * Pula os próximos campos da linha.
+     */
+    public void pularCampos(int quantidade) {
+        for (int i = 0; i < quantidade && proximoCampo(); i++) {
+            // apenas avança
+        }
+    }
+
+    public boolean isEntreAspas() {
+        return campoEntreAspas;
+    }
+
+    /**
+     * Verifica se o campo atual é o sentinela de nulo do Ergast ("\N") ou está vazio.
+     */
+    public boolean isNulo() {
+        int tamanhoCampo = fimCampo - inicioCampo;
+        if (tamanhoCampo == 0) {
+            return !campoEntreAspas;
+        }
+        return !campoEntreAspas && tamanhoCampo == 2 && dados[inicioCampo] == '\\' && dados[inicioCampo + 1] == 'N';
+    }
+
+    /**
+     * Verifica se o campo atual é um inteiro (sinal opcional seguido de dígitos).
+     */
+    public boolean isInteiro() {
+        int i = inicioCampo;
+        if (i < fimCampo && dados[i] == '-') {
+            i++;
+        }
+        if (i >= fimCampo || fimCampo - i > 18) {
+            return false;
+        }
+        for (; i < fimCampo; i++) {
+            if (dados[i] < '0' || dados[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se o campo atual é um número real simples (dígitos com um único ponto decimal).
+     */
+    public boolean isReal() {
+        int i = inicioCampo;
+        if (i < fimCampo && dados[i] == '-') {
+            i++;
+        }
+        boolean ponto = false;
+        boolean digito = false;
+        for (; i < fimCampo; i++) {
+            byte b = dados[i];
+            if (b == '.' && !ponto) {
+                ponto = true;
+            } else if (b >= '0' && b <= '9') {
+                digito = true;
+            } else {
+                return false;
+            }
+        }
+        return ponto && digito;
+    }
+
+    public int campoInt() {
+        long valor = campoLong();
+        if (valor < Integer.MIN_VALUE || valor > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Valor fora do intervalo de int em " + nome + ": " + campoString());
+        }
+        return (int) valor;
+    }
+
+    /**
+     * @param padrao valor retornado quando o campo for "\N" ou não for numérico
+     */
+    public int campoInt(int padrao) {
+        return isNulo() || !isInteiro() ? padrao : campoInt();
+    }
+
+    public long campoLong() {
+        int i = inicioCampo;
+        boolean negativo = i < fimCampo && dados[i] == '-';
+        if (negativo) {
+            i++;
+        }
+        if (i >= fimCampo) {
+            throw new NumberFormatException("Campo numérico vazio em " + nome);
+        }
+        long valor = 0;
+        for (; i < fimCampo; i++) {
+            int digito = dados[i] - '0';
+            if (digito < 0 || digito > 9) {
+                throw new NumberFormatException("Número inválido em " + nome + ": " + campoString());
+            }
+            valor = valor * 10 + digito;
+        }
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * @param padrao valor retornado quando o campo for "\N" ou não for numérico
+     */
+    public long campoLong(long padrao) {
+        return isNulo() || !isInteiro() ? padrao : campoLong();
+    }
+
+    public double campoDouble() {
+        int i = inicioCampo;
+        boolean negativo = i < fimCampo && dados[i] == '-';
+        if (negativo) {
+            i++;
+        }
+        long mantissa = 0;
+        int casasDecimais = 0;
+        boolean aposPonto = false;
+        boolean algumDigito = false;
+        for (; i < fimCampo; i++) {
+            byte b = dados[i];
+            if (b == '.' && !aposPonto) {
+                aposPonto = true;
+            } else if (b >= '0' && b <= '9') {
+                algumDigito = true;
+                if (mantissa < 100_000_000_000_000_000L) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (aposPonto) {
+                        casasDecimais++;
+                    }
+                } else if (!aposPonto) {
+                    casasDecimais--;
+                }
+            } else {
+                // Formatos fora do simples (expoente etc.) caem no parser do JDK
+                return Double.parseDouble(campoString());
+            }
+        }
+        if (!algumDigito) {
+            throw new NumberFormatException("Número inválido em " + nome + ": " + campoString());
+        }
+        double valor = casasDecimais >= 0 ? mantissa / Math.pow(10, casasDecimais) : mantissa * Math.pow(10, -casasDecimais);
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * Retorna o campo atual como String (esta é a única operação que aloca).
+     */
+    public String campoString() {
+        String valor = new String(dados, inicioCampo, fimCampo - inicioCampo, StandardCharsets.UTF_8);
+        return aspasEscapadas ? valor.replace("\"\"", "\"") : valor;
+    }
+
+    /**
+     * Retorna o campo como String, ou null se for "\N".
+     */
+    public String campoStringOuNulo() {
+        return isNulo() ? null : campoString();
+    }
+
+    public int getPosicao() {
+        return posicao;
+    }
+
+    /**
+     * Volta a leitura para uma posição obtida com {@link #getPosicao()} no início de uma linha.
+     */
+    public void setPosicao(int posicao) {
+        if (posicao < 0 || posicao > tamanho) {
+            throw new IllegalArgumentException("Posição inválida: " + posicao);
+        }
+        this.posicao = posicao;
+        this.fimDeLinha = true;
+    }
+
+    public int getTamanhoBytes() {
+        return tamanho;
+    }
+
+    /**
+     * Vazão desde a criação do tokenizador, em MB/s.
+     */
+    public double getVazaoMBs() {
+        double segundos = Math.max(1e-9, (System.nanoTime() - inicioNanos) / 1e9);
+        return tamanho / 1_048_576.0 / segundos;
+    }
+
+    public String relatorio() {
+        return String.format("%s: %.2f MB em %d ms (%.1f MB/s)", nome, tamanho / 1_048_576.0,
+                (System.nanoTime() - inicioNanos) / 1_000_000, getVazaoMBs());
+    }
+}
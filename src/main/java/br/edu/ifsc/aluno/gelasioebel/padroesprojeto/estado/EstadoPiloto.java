@@ -13,6 +13,19 @@ public interface EstadoPiloto {
      */
     void atualizar(long deltaTempoMs);
 
+    /**
+     * Coloca o estado no instante informado da corrida, sem depender das atualizações
+     * anteriores. Estados que não variam com o tempo mantêm-se como estão.
+     *
+     * @param tempoCorridaMs Instante desde a largada, em milissegundos.
+     * @throws IllegalArgumentException se tempoCorridaMs for negativo
+     */
+    default void posicionar(long tempoCorridaMs) {
+        if (tempoCorridaMs < 0) {
+            throw new IllegalArgumentException("Tempo da corrida não pode ser negativo");
+        }
+    }
+
     /**
      * Retorna a descrição textual do status atual do piloto.
      *
@@ -6,7 +6,21 @@ public class Estados {
     private static final double PROGRESSO_MINIMO = 0.0;
     private static final double PROGRESSO_MAXIMO = 1.0;
     private static final long TEMPO_MINIMO = 0L;
+    static final String EMOJI_CORRENDO = "🏎️";
+
+    static String emojiChegada(int posicao) {
+        return switch (posicao) {
+            case 1 -> "🥇";
+            case 2 -> "🥈";
+            case 3 -> "🥉";
+            default -> "🏁";
+        };
+    }
 
+    /**
+     * Piloto em movimento. Não é sincronizado: cada instância é avançada por uma única thread, e
+     * o estado da corrida chega às demais threads pelo {@link SnapshotSimulacao}.
+     */
     public static class Correndo implements EstadoPiloto {
         private final long tempoTotal;
         private final int posicao;
@@ -31,7 +45,7 @@ public class Estados {
         }
 
         @Override
-        public synchronized void atualizar(long deltaTempoMs) {
+        public void atualizar(long deltaTempoMs) {
             if (deltaTempoMs < 0) {
                 throw new IllegalArgumentException("Delta de tempo não pode ser negativo");
             }
@@ -41,6 +55,17 @@ public class Estados {
             tempoDecorrido = Math.min(tempoTotal, tempoDecorrido + deltaTempoMs);
         }
 
+        /**
+         * O progresso é função apenas do tempo decorrido, então basta fixá-lo no instante pedido.
+         */
+        @Override
+        public void posicionar(long tempoCorridaMs) {
+            if (tempoCorridaMs < 0) {
+                throw new IllegalArgumentException("Tempo da corrida não pode ser negativo");
+            }
+            tempoDecorrido = Math.min(tempoTotal, tempoCorridaMs);
+        }
+
         @Override
         public String getStatus() {
             if (pausado) {
@@ -66,22 +91,14 @@ public class Estados {
             if (pausado) {
                 return "⏸️";
             }
-            if (isTerminado()) {
-                return switch (posicao) {
-                    case 1 -> "🥇";
-                    case 2 -> "🥈";
-                    case 3 -> "🥉";
-                    default -> "🏁";
-                };
-            }
-            return "🏎️";
+            return isTerminado() ? emojiChegada(posicao) : EMOJI_CORRENDO;
         }
 
-        public synchronized void pausar() {
+        public void pausar() {
             this.pausado = true;
         }
 
-        public synchronized void continuar() {
+        public void continuar() {
             this.pausado = false;
         }
 
@@ -0,0 +1,314 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.ResultadoCorrida;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estado de todos os pilotos de uma corrida em arrays primitivos paralelos, indexados pela
+ * vaga (slot) do piloto. Um passo de simulação é um único laço sobre os arrays, sem
+ * sincronização por piloto e sem alocação.
+ * <p>
+ * Para quem consome {@link EstadoPiloto}, {@link #copiarEstados()} monta estados independentes
+ * a partir dos arrays. Pilotos que já começam fora da corrida (abandono, desclassificação etc.)
+ * mantêm o {@link Estados.Abandonou} original, que é imutável.
+ * <p>
+ * O motor também mantém a ordem de corrida (progresso decrescente, empates na ordem anterior).
+ * Entre dois passos quase ninguém troca de lugar, então a ordem não é reordenada do zero: o passo
+ * percorre os pilotos na ordem de corrida, com o progresso guardado nessa mesma ordem, e já
+ * compara cada um com o da frente; só quem passou o vizinho é reinserido. As trocas são avisadas
+ * a um {@link OuvintePosicoes} opcional.
+ * <p>
+ * Não é thread-safe: quem avança o motor deve serializar as chamadas, e outras threads devem ler
+ * a corrida pelo {@link SnapshotSimulacao} gerado em {@link #criarSnapshot(long, long)}.
+ */
+public class MotorSimulacao {
+    private static final byte CORRENDO = 0;
+    private static final byte FINALIZADO = 1;
+    private static final byte FORA = 2;
+
+    private final Piloto[] pilotos;
+    private final long[] tempoDecorrido;
+    private final long[] tempoTotal;
+    private final int[] posicao;
+    private final byte[] situacao;
+    private final EstadoPiloto[] estadosFixos;
+    private final String[] statusFixo;
+    private final String[] emojiFixo;
+    private final double[] inversoTotal;
+    private final int[] ordem;
+    private final double[] progressoOrdem;
+    private final int[] posicaoCorrida;
+    private final int[] posicaoPublicada;
+    private OuvintePosicoes ouvintePosicoes;
+    private long mudancasPosicao;
+    private int correndo;
+
+    /**
+     * Monta o motor a partir dos resultados da corrida, na ordem em que aparecem.
+     */
+    public MotorSimulacao(Map<Piloto, ResultadoCorrida> resultados) {
+        int n = resultados.size();
+        this.pilotos = new Piloto[n];
+        this.tempoDecorrido = new long[n];
+        this.tempoTotal = new long[n];
+        this.posicao = new int[n];
+        this.situacao = new byte[n];
+        this.estadosFixos = new EstadoPiloto[n];
+        this.statusFixo = new String[n];
+        this.emojiFixo = new String[n];
+        this.inversoTotal = new double[n];
+        this.ordem = new int[n];
+        this.progressoOrdem = new double[n];
+        this.posicaoCorrida = new int[n];
+        this.posicaoPublicada = new int[n];
+
+        int slot = 0;
+        for (Map.Entry<Piloto, ResultadoCorrida> entry : resultados.entrySet()) {
+            ResultadoCorrida resultado = entry.getValue();
+            EstadoPiloto inicial = resultado.criarEstadoInicial();
+            pilotos[slot] = entry.getKey();
+            posicao[slot] = resultado.getPosicao();
+            if (inicial instanceof Estados.Correndo) {
+                tempoTotal[slot] = resultado.getTempoMs();
+                inversoTotal[slot] = 1.0 / tempoTotal[slot];
+                situacao[slot] = CORRENDO;
+                correndo++;
+            } else {
+                situacao[slot] = FORA;
+                estadosFixos[slot] = inicial;
+                // Abandonou monta o texto a cada chamada; como não muda, é guardado uma vez
+                statusFixo[slot] = inicial.getStatus();
+                emojiFixo[slot] = inicial.getEmoji();
+                progressoOrdem[slot] = inicial.getProgresso();
+            }
+            ordem[slot] = slot;
+            posicaoCorrida[slot] = slot;
+            slot++;
+        }
+        // Quem abandonou com progresso acima de zero já começa à frente; não conta como mudança
+        repararOrdem(1);
+        System.arraycopy(posicaoCorrida, 0, posicaoPublicada, 0, n);
+        mudancasPosicao = 0;
+    }
+
+    /**
+     * Avança todos os pilotos em deltaTempoMs de tempo de corrida.
+     *
+     * @return true se todos os pilotos terminaram
+     * @throws IllegalArgumentException se deltaTempoMs for negativo
+     */
+    public boolean avancar(long deltaTempoMs) {
+        if (deltaTempoMs < 0) {
+            throw new IllegalArgumentException("Delta de tempo não pode ser negativo");
+        }
+        final int[] ord = ordem;
+        final double[] prog = progressoOrdem;
+        final long[] decorrido = tempoDecorrido;
+        final long[] total = tempoTotal;
+        final double[] inverso = inversoTotal;
+        final byte[] sit = situacao;
+        int restantes = correndo;
+        int foraDeOrdem = 0;
+        double anterior = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < ord.length; k++) {
+            int i = ord[k];
+            double p = prog[k];
+            if (sit[i] == CORRENDO) {
+                long t = decorrido[i] + deltaTempoMs;
+                if (t >= total[i]) {
+                    t = total[i];
+                    sit[i] = FINALIZADO;
+                    restantes--;
+                    p = 1.0;
+                } else {
+                    p = t * inverso[i];
+                }
+                decorrido[i] = t;
+                prog[k] = p;
+            }
+            if (p > anterior && foraDeOrdem == 0) {
+                foraDeOrdem = k;
+            }
+            anterior = p;
+        }
+        correndo = restantes;
+        if (foraDeOrdem > 0) {
+            repararOrdem(foraDeOrdem);
+        }
+        return restantes == 0;
+    }
+
+    /**
+     * Recoloca em ordem, a partir da posição informada, os pilotos que passaram o vizinho da
+     * frente. Cada ultrapassagem custa apenas o deslocamento dos pilotos ultrapassados.
+     */
+    private void repararOrdem(int inicio) {
+        final int[] ord = ordem;
+        final double[] prog = progressoOrdem;
+        for (int i = Math.max(1, inicio); i < ord.length; i++) {
+            double p = prog[i];
+            if (p <= prog[i - 1]) {
+                continue;
+            }
+            int slot = ord[i];
+            int j = i - 1;
+            do {
+                int ultrapassado = ord[j];
+                ord[j + 1] = ultrapassado;
+                prog[j + 1] = prog[j];
+                posicaoCorrida[ultrapassado] = j + 1;
+                avisarMudanca(ultrapassado, j, j + 1);
+                j--;
+            } while (j >= 0 && prog[j] < p);
+            ord[j + 1] = slot;
+            prog[j + 1] = p;
+            posicaoCorrida[slot] = j + 1;
+            avisarMudanca(slot, i, j + 1);
+        }
+    }
+
+    private void avisarMudanca(int slot, int de, int para) {
+        mudancasPosicao++;
+        if (ouvintePosicoes != null) {
+            ouvintePosicoes.posicaoAlterada(slot, de + 1, para + 1);
+        }
+    }
+
+    /**
+     * Coloca todos os pilotos no instante informado da corrida, em O(pilotos).
+     *
+     * @return true se todos os pilotos terminaram nesse instante
+     */
+    public boolean posicionar(long tempoCorridaMs) {
+        if (tempoCorridaMs < 0) {
+            throw new IllegalArgumentException("Tempo da corrida não pode ser negativo");
+        }
+        int restantes = 0;
+        for (int i = 0; i < situacao.length; i++) {
+            if (situacao[i] == FORA) {
+                continue;
+            }
+            long t = Math.min(tempoTotal[i], tempoCorridaMs);
+            tempoDecorrido[i] = t;
+            if (t >= tempoTotal[i]) {
+                situacao[i] = FINALIZADO;
+                progressoOrdem[posicaoCorrida[i]] = 1.0;
+            } else {
+                situacao[i] = CORRENDO;
+                progressoOrdem[posicaoCorrida[i]] = t * inversoTotal[i];
+                restantes++;
+            }
+        }
+        correndo = restantes;
+        repararOrdem(1);
+        return restantes == 0;
+    }
+
+    public int getQuantidadePilotos() {
+        return pilotos.length;
+    }
+
+    public Piloto getPiloto(int slot) {
+        return pilotos[slot];
+    }
+
+    public double getProgresso(int slot) {
+        return progressoOrdem[posicaoCorrida[slot]];
+    }
+
+    /**
+     * Vaga do piloto que ocupa a posição informada da ordem de corrida (0 é o líder).
+     */
+    public int getSlotNaPosicao(int posicao) {
+        return ordem[posicao];
+    }
+
+    /**
+     * Posição atual do piloto na ordem de corrida, a partir de 0.
+     */
+    public int getPosicaoCorrida(int slot) {
+        return posicaoCorrida[slot];
+    }
+
+    /**
+     * Total de mudanças de posição desde a montagem do motor, contando quem ultrapassou e
+     * cada ultrapassado.
+     */
+    public long getMudancasPosicao() {
+        return mudancasPosicao;
+    }
+
+    public void setOuvintePosicoes(OuvintePosicoes ouvintePosicoes) {
+        this.ouvintePosicoes = ouvintePosicoes;
+    }
+
+    public boolean isTerminado(int slot) {
+        return situacao[slot] != CORRENDO;
+    }
+
+    public boolean isTodosTerminados() {
+        return correndo == 0;
+    }
+
+    /**
+     * Fotografia imutável do estado atual, na ordem de corrida mantida pelo motor, com a posição
+     * que cada piloto tinha na fotografia anterior.
+     *
+     * @param tempoCorridaMs instante da corrida registrado na fotografia
+     * @param sequencia      número do passo que a gerou
+     */
+    public SnapshotSimulacao criarSnapshot(long tempoCorridaMs, long sequencia) {
+        int n = pilotos.length;
+        Piloto[] pilotosOrdem = new Piloto[n];
+        double[] progressoSnapshot = new double[n];
+        int[] posicaoAnterior = new int[n];
+        String[] status = new String[n];
+        String[] emoji = new String[n];
+        boolean[] terminado = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int slot = ordem[i];
+            pilotosOrdem[i] = pilotos[slot];
+            progressoSnapshot[i] = progressoOrdem[i];
+            posicaoAnterior[i] = posicaoPublicada[slot];
+            posicaoPublicada[slot] = i;
+            terminado[i] = situacao[slot] != CORRENDO;
+            switch (situacao[slot]) {
+                case CORRENDO -> {
+                    status[i] = "Correndo";
+                    emoji[i] = Estados.EMOJI_CORRENDO;
+                }
+                case FINALIZADO -> {
+                    status[i] = "Finalizado";
+                    emoji[i] = Estados.emojiChegada(posicao[slot]);
+                }
+                default -> {
+                    status[i] = statusFixo[slot];
+                    emoji[i] = emojiFixo[slot];
+                }
+            }
+        }
+        return new SnapshotSimulacao(sequencia, tempoCorridaMs, pilotosOrdem, progressoSnapshot, posicaoAnterior,
+                status, emoji, terminado);
+    }
+
+    /**
+     * Cópia do estado de todos os pilotos, na ordem das vagas: um {@link Estados.Correndo}
+     * posicionado no tempo atual para quem largou e o estado original para quem começou fora
+     * da corrida. As cópias não afetam o motor; atualizá-las só avança a própria cópia.
+     */
+    public Map<Piloto, EstadoPiloto> copiarEstados() {
+        Map<Piloto, EstadoPiloto> estados = new LinkedHashMap<>();
+        for (int slot = 0; slot < pilotos.length; slot++) {
+            EstadoPiloto estado = estadosFixos[slot];
+            if (situacao[slot] != FORA) {
+                estado = new Estados.Correndo(tempoTotal[slot], posicao[slot]);
+                estado.posicionar(tempoDecorrido[slot]);
+            }
+            estados.put(pilotos[slot], estado);
+        }
+        return estados;
+    }
+}
@@ -0,0 +1,17 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado;
+
+/**
+ * Recebe as mudanças de posição na ordem de corrida mantida pelo {@link MotorSimulacao}.
+ * É chamado na thread que avança o motor, durante o passo, uma vez para cada piloto que mudou
+ * de lugar (quem ultrapassou e cada um dos ultrapassados); por isso deve ser rápido e não
+ * pode avançar o motor.
+ */
+@FunctionalInterface
+public interface OuvintePosicoes {
+    /**
+     * @param slot             vaga do piloto no motor
+     * @param posicaoAnterior  posição antes do passo, a partir de 1
+     * @param posicaoNova      posição depois do passo, a partir de 1
+     */
+    void posicaoAlterada(int slot, int posicaoAnterior, int posicaoNova);
+}
@@ -0,0 +1,110 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+
+/**
+ * Fotografia imutável da corrida em um passo do relógio: pilotos na ordem de corrida, com
+ * progresso, status e emoji de cada um, e a posição que cada piloto ocupava na fotografia
+ * anterior da mesma sessão. É criada pelo {@link MotorSimulacao} e publicada pela
+ * sessão em uma única referência volátil, de modo que qualquer thread lê um estado coerente
+ * entre pilotos sem precisar de lock.
+ * <p>
+ * Os índices vão de 0 (líder) a {@link #getQuantidade()} - 1. Os arrays nunca saem da classe.
+ */
+public final class SnapshotSimulacao {
+    public static final SnapshotSimulacao VAZIO = new SnapshotSimulacao(0, 0, new Piloto[0], new double[0],
+            new int[0], new String[0], new String[0], new boolean[0]);
+
+    private final long sequencia;
+    private final long tempoCorridaMs;
+    private final Piloto[] pilotos;
+    private final double[] progresso;
+    private final int[] posicaoAnterior;
+    private final String[] status;
+    private final String[] emoji;
+    private final boolean[] terminado;
+
+    SnapshotSimulacao(long sequencia, long tempoCorridaMs, Piloto[] pilotos, double[] progresso,
+                      int[] posicaoAnterior, String[] status, String[] emoji, boolean[] terminado) {
+        this.sequencia = sequencia;
+        this.tempoCorridaMs = tempoCorridaMs;
+        this.pilotos = pilotos;
+        this.progresso = progresso;
+        this.posicaoAnterior = posicaoAnterior;
+        this.status = status;
+        this.emoji = emoji;
+        this.terminado = terminado;
+    }
+
+    /**
+     * Número do passo que gerou a fotografia; cresce a cada publicação da mesma sessão.
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public long getTempoCorridaMs() {
+        return tempoCorridaMs;
+    }
+
+    public int getQuantidade() {
+        return pilotos.length;
+    }
+
+    public boolean isVazio() {
+        return pilotos.length == 0;
+    }
+
+    public Piloto getPiloto(int ordem) {
+        return pilotos[ordem];
+    }
+
+    public double getProgresso(int ordem) {
+        return progresso[ordem];
+    }
+
+    /**
+     * Índice que o piloto nesta posição ocupava na fotografia anterior.
+     */
+    public int getPosicaoAnterior(int ordem) {
+        return posicaoAnterior[ordem];
+    }
+
+    public boolean isPosicaoAlterada(int ordem) {
+        return posicaoAnterior[ordem] != ordem;
+    }
+
+    public String getStatus(int ordem) {
+        return status[ordem];
+    }
+
+    public String getEmoji(int ordem) {
+        return emoji[ordem];
+    }
+
+    public boolean isTerminado(int ordem) {
+        return terminado[ordem];
+    }
+
+    public boolean isTodosTerminados() {
+        for (boolean t : terminado) {
+            if (!t) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SnapshotSimulacao{sequencia=").append(sequencia)
+                .append(", tempo=").append(tempoCorridaMs).append(" ms, ordem=[");
+        for (int i = 0; i < pilotos.length; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(pilotos[i].getCodigo());
+        }
+        return sb.append("]}").toString();
+    }
+}
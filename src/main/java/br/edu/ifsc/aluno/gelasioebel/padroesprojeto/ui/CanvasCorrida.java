@@ -0,0 +1,224 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.ui;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.SnapshotSimulacao;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Painel da corrida com renderização ativa, para telas grandes em taxas altas: um Canvas com
+ * BufferStrategy de três buffers, desenhado por uma thread própria em vez do repaint da EDT.
+ * <p>
+ * A cada período ({@value #PROPRIEDADE_FPS}, padrão {@value #FPS_PADRAO} Hz) a thread lê a
+ * fotografia mais recente da sessão, desenha no buffer de trás com o mesmo
+ * {@link RenderizadorCorrida} do painel Swing e espera o prazo do quadro para exibi-lo. Assim o
+ * intervalo entre quadros exibidos não depende do tempo de desenho, que varia com a quantidade
+ * de linhas alteradas e com as reconstruções da camada estática. A espera usa park até perto do
+ * prazo e yield no final, mais preciso que o sleep. Quando um quadro atrasa, os prazos vencidos
+ * são perdidos em vez de desenhados em rajada.
+ * <p>
+ * A thread é criada quando o componente ganha um peer e termina quando ele é removido.
+ */
+class CanvasCorrida extends Canvas {
+    private static final long serialVersionUID = 1L;
+
+    static final String PROPRIEDADE_FPS = "f1.fpsPainel";
+    private static final int FPS_PADRAO = 60;
+    private static final int BUFFERS = 3;
+    // Mesmo intervalo do debounce de redimensionamento do painel Swing
+    private static final long ESTABILIZACAO_TAMANHO_NANOS = 150_000_000L;
+    private static final long MARGEM_ESPERA_NANOS = 1_000_000L;
+
+    private final Supplier<SnapshotSimulacao> fonte;
+    private final RenderizadorCorrida renderizador;
+    private final Color fundo;
+    private final long periodoNanos;
+    private volatile Thread threadRenderizacao;
+    private volatile boolean executando;
+    private volatile boolean zerarPendente;
+
+    // Usados só pela thread de renderização
+    private int larguraVista;
+    private int alturaVista;
+    private long mudancaTamanhoNanos;
+    private boolean camadaPendente;
+
+    // Escritos só pela thread de renderização, lidos por qualquer uma
+    private volatile long quadrosExibidos;
+    private volatile long prazosPerdidos;
+    private volatile long somaDesvioNanos;
+    private volatile long desvioMaximoNanos;
+    private volatile long inicioMedicaoNanos;
+
+    CanvasCorrida(Supplier<SnapshotSimulacao> fonte, Map<String, Color> coresPilotos, Color fundo) {
+        this.fonte = fonte;
+        this.renderizador = new RenderizadorCorrida(coresPilotos);
+        this.fundo = fundo;
+        int fps = Integer.getInteger(PROPRIEDADE_FPS, FPS_PADRAO);
+        if (fps <= 0) {
+            throw new IllegalArgumentException("Taxa de quadros deve ser positiva: " + fps);
+        }
+        this.periodoNanos = 1_000_000_000L / fps;
+        setBackground(fundo);
+        // Quem desenha é a thread de renderização; os pedidos de repaint do AWT são ignorados
+        setIgnoreRepaint(true);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(BUFFERS);
+        executando = true;
+        Thread thread = new Thread(this::executar, "renderizacao-corrida");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY + 1);
+        threadRenderizacao = thread;
+        thread.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        // Os buffers são descartados junto com o peer; a thread precisa parar antes
+        executando = false;
+        Thread thread = threadRenderizacao;
+        threadRenderizacao = null;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.removeNotify();
+    }
+
+    private void executar() {
+        zerarContadores();
+        long prazo = System.nanoTime() + periodoNanos;
+        while (executando) {
+            if (zerarPendente) {
+                zerarPendente = false;
+                zerarContadores();
+                renderizador.zerarMedicao();
+            }
+            try {
+                desenharQuadro(prazo);
+            } catch (IllegalStateException e) {
+                // Peer removido entre a verificação e o desenho; o laço termina em seguida
+                if (executando) {
+                    System.err.println("Erro na renderização da corrida: " + e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Erro na renderização da corrida: " + e.getMessage());
+            }
+
+            prazo += periodoNanos;
+            long atraso = System.nanoTime() - prazo;
+            if (atraso > 0) {
+                long perdidos = atraso / periodoNanos + 1;
+                prazosPerdidos += perdidos;
+                prazo += perdidos * periodoNanos;
+            }
+        }
+    }
+
+    /**
+     * Desenha a fotografia atual no buffer de trás e o exibe no prazo, repetindo enquanto o
+     * conteúdo dos buffers for perdido ou restaurado no meio do caminho.
+     */
+    private void desenharQuadro(long prazo) {
+        BufferStrategy estrategia = getBufferStrategy();
+        int largura = getWidth();
+        int altura = getHeight();
+        if (estrategia == null || largura <= 0 || altura <= 0) {
+            esperarAte(prazo);
+            return;
+        }
+        acompanharTamanho(largura, altura);
+
+        SnapshotSimulacao snapshot = fonte.get();
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) estrategia.getDrawGraphics();
+                try {
+                    if (snapshot.isVazio()) {
+                        g2d.setColor(fundo);
+                        g2d.fillRect(0, 0, largura, altura);
+                    } else {
+                        renderizador.desenhar(g2d, snapshot, largura, altura, fundo);
+                    }
+                } finally {
+                    g2d.dispose();
+                }
+            } while (estrategia.contentsRestored());
+
+            esperarAte(prazo);
+            estrategia.show();
+            // Em X11 o show só entra na fila do servidor; o sync envia o quadro agora
+            Toolkit.getDefaultToolkit().sync();
+        } while (estrategia.contentsLost());
+
+        long desvio = System.nanoTime() - prazo;
+        quadrosExibidos++;
+        somaDesvioNanos += desvio;
+        if (desvio > desvioMaximoNanos) {
+            desvioMaximoNanos = desvio;
+        }
+    }
+
+    /**
+     * Invalida a camada estática depois que o tamanho ficou estável por um tempo, como o
+     * debounce do painel Swing; enquanto muda, o renderizador desenha as partes estáticas direto.
+     */
+    private void acompanharTamanho(int largura, int altura) {
+        long agora = System.nanoTime();
+        if (largura != larguraVista || altura != alturaVista) {
+            larguraVista = largura;
+            alturaVista = altura;
+            mudancaTamanhoNanos = agora;
+            camadaPendente = true;
+        } else if (camadaPendente && agora - mudancaTamanhoNanos >= ESTABILIZACAO_TAMANHO_NANOS) {
+            renderizador.invalidarCamadaEstatica();
+            camadaPendente = false;
+        }
+    }
+
+    private void esperarAte(long prazo) {
+        long restante;
+        while (executando && (restante = prazo - System.nanoTime()) > MARGEM_ESPERA_NANOS) {
+            LockSupport.parkNanos(restante - MARGEM_ESPERA_NANOS);
+        }
+        while (executando && System.nanoTime() < prazo) {
+            Thread.yield();
+        }
+    }
+
+    private void zerarContadores() {
+        quadrosExibidos = 0;
+        prazosPerdidos = 0;
+        somaDesvioNanos = 0;
+        desvioMaximoNanos = 0;
+        inicioMedicaoNanos = System.nanoTime();
+    }
+
+    /**
+     * Pede à thread de renderização que zere as medições antes do próximo quadro.
+     */
+    void zerarMedicao() {
+        zerarPendente = true;
+    }
+
+    String getRelatorioQuadros() {
+        long quadros = quadrosExibidos;
+        double segundos = (System.nanoTime() - inicioMedicaoNanos) / 1e9;
+        return String.format("Renderização ativa: %d quadros a %.1f Hz (alvo %d Hz), %d prazos perdidos, " +
+                        "atraso médio %.2f ms (máx. %.2f ms)",
+                quadros, segundos > 0 ? quadros / segundos : 0, 1_000_000_000L / periodoNanos, prazosPerdidos,
+                quadros == 0 ? 0 : somaDesvioNanos / 1e6 / quadros, desvioMaximoNanos / 1e6)
+                + " | " + renderizador.getRelatorioAlocacao();
+    }
+}
@@ -0,0 +1,450 @@
+package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.ui;
+
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.MedidorAlocacao;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.SnapshotSimulacao;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.VolatileImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Desenha a tabela da corrida (cabeçalho e uma linha por piloto) a partir de um
+ * {@link SnapshotSimulacao}, em qualquer Graphics2D.
+ * <p>
+ * Cabeçalho, números de posição, códigos, fundos e bordas das barras e separadores só mudam
+ * com o tamanho do painel ou quando a ordem dos pilotos muda; ficam pré-desenhados, com
+ * antialiasing e qualidade máxima, em uma VolatileImage. A cada quadro essa camada é copiada e
+ * apenas o preenchimento das barras, o progresso e o status são desenhados por cima.
+ * <p>
+ * O quadro é desenhado a cada ~30 ms na EDT, então nada é alocado por quadro: fontes, cores e
+ * traços são constantes, as cores escurecidas das barras e os rótulos de posição, de progresso
+ * (um por décimo de ponto percentual) e de status são criados na primeira vez e reaproveitados.
+ * Os rótulos de status levam emoji com seletor de variação, que o drawString só desenha passando
+ * por um TextLayout novo a cada chamada (~1,8 KB); por isso eles guardam o GlyphVector já montado.
+ * A alocação por quadro é medida na HotSpot e informada por {@link #getRelatorioAlocacao()}.
+ * <p>
+ * Deve ser usado por uma única thread.
+ */
+class RenderizadorCorrida {
+    static final int Y_CABECALHO = 30;
+    static final int MARGEM_ESQUERDA = 20;
+    static final int Y_PRIMEIRA_LINHA = Y_CABECALHO + 30;
+    static final int ALTURA_LINHA = 35;
+    private static final int ALTURA_BARRA = 16;
+
+    private static final Font FONTE_TABELA = new Font("Arial", Font.BOLD, 14);
+    private static final Color COR_FUNDO_BARRA = new Color(240, 240, 240);
+    private static final BasicStroke TRACO_SEPARADOR = new BasicStroke(1.0f);
+    private static final String CODIGO_DESCONHECIDO = "???";
+    private static final int DIVISOES_PROGRESSO = 1000;
+    private static final String[] ROTULOS_POSICAO = new String[100];
+
+    static {
+        for (int i = 0; i < ROTULOS_POSICAO.length; i++) {
+            ROTULOS_POSICAO[i] = String.format("%2d", i);
+        }
+    }
+
+    private final Map<String, Color> coresPilotos;
+    private final Map<String, Color> coresEscuras = new HashMap<>();
+    private final String[] rotulosProgresso = new String[DIVISOES_PROGRESSO + 1];
+    private final Map<String, Map<String, RotuloTexto>> rotulosStatus = new HashMap<>();
+
+    // Camada estática: tamanho lógico e ordem dos pilotos com que foi desenhada
+    private VolatileImage camada;
+    private int larguraCamada;
+    private int alturaCamada;
+    private Piloto[] ordemCamada = new Piloto[0];
+    private boolean camadaInvalida;
+    private long reconstrucoesCamada;
+    private final Rectangle areaRecorte = new Rectangle();
+
+    private final MedidorAlocacao alocacaoQuadros = new MedidorAlocacao();
+
+    RenderizadorCorrida(Map<String, Color> coresPilotos) {
+        this.coresPilotos = coresPilotos;
+    }
+
+    /**
+     * Altura necessária para a tabela com a quantidade de pilotos informada.
+     */
+    static int alturaPreferida(int quantidadePilotos) {
+        return Math.max(400, quantidadePilotos * 40 + 60);
+    }
+
+    /**
+     * Largura total da barra de progresso em um painel com a largura informada.
+     */
+    static int larguraBarra(int largura) {
+        return largura - 450;
+    }
+
+    /**
+     * Retângulo ocupado pelas linhas de {@code primeira} até {@code ultima} (inclusive), já com
+     * a folga do emoji acima do texto. As linhas se encostam sem se sobrepor.
+     */
+    static void limitesLinhas(int primeira, int ultima, int largura, Rectangle destino) {
+        destino.setBounds(0, Y_PRIMEIRA_LINHA - 17 + primeira * ALTURA_LINHA, largura,
+                (ultima - primeira + 1) * ALTURA_LINHA);
+    }
+
+    /**
+     * Indica se a linha na posição {@code ordem} sai com algum pixel diferente entre as duas
+     * fotografias: outro piloto na posição, outra largura de barra, outro rótulo de progresso
+     * ou outro status. Pilotos parados (abandono, chegada) nunca mudam e não são redesenhados.
+     */
+    boolean isLinhaAlterada(SnapshotSimulacao anterior, SnapshotSimulacao atual, int ordem, int largura) {
+        if (anterior.getPiloto(ordem) != atual.getPiloto(ordem)) {
+            return true;
+        }
+        double progressoAnterior = anterior.getProgresso(ordem);
+        double progressoAtual = atual.getProgresso(ordem);
+        if (progressoAnterior != progressoAtual) {
+            int larguraTotal = larguraBarra(largura);
+            if ((int) (progressoAnterior * larguraTotal) != (int) (progressoAtual * larguraTotal)
+                    || indiceProgresso(progressoAnterior) != indiceProgresso(progressoAtual)) {
+                return true;
+            }
+        }
+        return !Objects.equals(anterior.getStatus(ordem), atual.getStatus(ordem))
+                || !Objects.equals(anterior.getEmoji(ordem), atual.getEmoji(ordem));
+    }
+
+    /**
+     * Desenha a corrida: copia a camada estática (refeita só quando preciso) e desenha por cima
+     * as partes que mudam a cada quadro, apenas nas linhas que cruzam a área de recorte. O
+     * Graphics2D recebido tem suas dicas de renderização, fonte e cor alteradas.
+     *
+     * @param fundo cor de fundo do componente, usada na camada estática, que é opaca
+     */
+    void desenhar(Graphics2D g2d, SnapshotSimulacao snapshot, int largura, int altura, Color fundo) {
+        if (snapshot.isVazio()) {
+            return;
+        }
+        long bytesAntes = alocacaoQuadros.iniciar();
+
+        desenharCamadaEstatica(g2d, snapshot, largura, altura, fundo);
+
+        // Só retângulos alinhados aos pixels: sem antialiasing o resultado é o mesmo e mais rápido
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setFont(FONTE_TABELA);
+        int larguraMaxima = largura - 250;
+
+        // Sem recorte definido, getClipBounds mantém o retângulo recebido: o painel inteiro
+        areaRecorte.setBounds(0, 0, largura, altura);
+        g2d.getClipBounds(areaRecorte);
+        int topo = Y_PRIMEIRA_LINHA - 17;
+        int primeira = Math.max(0, (areaRecorte.y - topo) / ALTURA_LINHA);
+        int ultima = Math.min(snapshot.getQuantidade() - 1,
+                (areaRecorte.y + areaRecorte.height - topo) / ALTURA_LINHA);
+        for (int i = primeira; i <= ultima; i++) {
+            desenharLinhaDinamica(g2d, snapshot, i, MARGEM_ESQUERDA, Y_PRIMEIRA_LINHA + i * ALTURA_LINHA,
+                    larguraMaxima);
+        }
+
+        alocacaoQuadros.registrar(bytesAntes);
+    }
+
+    /**
+     * Descarta a camada estática; o próximo quadro a refaz no tamanho atual. Chamado pelo
+     * debounce de redimensionamento do painel.
+     */
+    void invalidarCamadaEstatica() {
+        camadaInvalida = true;
+    }
+
+    long getReconstrucoesCamada() {
+        return reconstrucoesCamada;
+    }
+
+    /**
+     * Copia a camada estática para o destino, refazendo-a se a ordem dos pilotos mudou, se foi
+     * invalidada ou se a VolatileImage perdeu o conteúdo. Enquanto o painel muda de tamanho o
+     * tamanho não bate com o da camada; até o debounce confirmar o novo tamanho, as partes
+     * estáticas são desenhadas direto, sem recriar a imagem a cada evento.
+     */
+    private void desenharCamadaEstatica(Graphics2D g2d, SnapshotSimulacao snapshot, int largura, int altura,
+                                        Color fundo) {
+        boolean mesmoTamanho = largura == larguraCamada && altura == alturaCamada;
+        if (camada != null && !mesmoTamanho && !camadaInvalida) {
+            desenharEstatico(g2d, snapshot, largura, altura, fundo);
+            return;
+        }
+
+        // A camada fica na resolução do dispositivo para não borrar em telas com escala
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        AffineTransform transformacao = gc.getDefaultTransform();
+        double escalaX = transformacao.getScaleX();
+        double escalaY = transformacao.getScaleY();
+        int larguraDispositivo = (int) Math.ceil(largura * escalaX);
+        int alturaDispositivo = (int) Math.ceil(altura * escalaY);
+
+        boolean refazer = camadaInvalida || !mesmoTamanho || !mesmaOrdem(snapshot);
+        do {
+            int estado = camada == null ? VolatileImage.IMAGE_INCOMPATIBLE : camada.validate(gc);
+            if (estado == VolatileImage.IMAGE_INCOMPATIBLE
+                    || camada.getWidth() != larguraDispositivo || camada.getHeight() != alturaDispositivo) {
+                if (camada != null) {
+                    camada.flush();
+                }
+                camada = gc.createCompatibleVolatileImage(larguraDispositivo, alturaDispositivo, Transparency.OPAQUE);
+                // A primeira validação de uma imagem nova a dá como restaurada; feita aqui, não
+                // provoca uma segunda reconstrução no quadro seguinte
+                camada.validate(gc);
+                refazer = true;
+            } else if (estado == VolatileImage.IMAGE_RESTORED) {
+                refazer = true;
+            }
+
+            if (refazer) {
+                Graphics2D gCamada = camada.createGraphics();
+                try {
+                    gCamada.scale(escalaX, escalaY);
+                    desenharEstatico(gCamada, snapshot, largura, altura, fundo);
+                } finally {
+                    gCamada.dispose();
+                }
+                registrarOrdem(snapshot);
+                larguraCamada = largura;
+                alturaCamada = altura;
+                camadaInvalida = false;
+                refazer = false;
+                reconstrucoesCamada++;
+            }
+            g2d.drawImage(camada, 0, 0, largura, altura, null);
+            refazer = camada.contentsLost();
+        } while (refazer);
+    }
+
+    private boolean mesmaOrdem(SnapshotSimulacao snapshot) {
+        if (ordemCamada.length != snapshot.getQuantidade()) {
+            return false;
+        }
+        for (int i = 0; i < ordemCamada.length; i++) {
+            if (ordemCamada[i] != snapshot.getPiloto(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void registrarOrdem(SnapshotSimulacao snapshot) {
+        if (ordemCamada.length != snapshot.getQuantidade()) {
+            ordemCamada = new Piloto[snapshot.getQuantidade()];
+        }
+        for (int i = 0; i < ordemCamada.length; i++) {
+            ordemCamada[i] = snapshot.getPiloto(i);
+        }
+    }
+
+    /**
+     * Tudo que só depende do tamanho e da ordem dos pilotos: fundo, cabeçalho, número da
+     * posição, cor e código do piloto, fundo e borda das barras e separadores.
+     */
+    private void desenharEstatico(Graphics2D g2d, SnapshotSimulacao snapshot, int largura, int altura,
+                                  Color fundo) {
+        g2d.setColor(fundo);
+        g2d.fillRect(0, 0, largura, altura);
+        configurarRenderizacao(g2d);
+
+        int x = MARGEM_ESQUERDA;
+        int larguraMaxima = largura - 250;
+        desenharCabecalho(g2d, x, Y_CABECALHO, larguraMaxima);
+
+        int y = Y_PRIMEIRA_LINHA;
+        for (int ordem = 0; ordem < snapshot.getQuantidade(); ordem++) {
+            String codigo = codigoValido(snapshot.getPiloto(ordem));
+
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(rotuloPosicao(ordem + 1), x, y);
+
+            g2d.setColor(corPiloto(codigo));
+            g2d.fillRect(x + 50, y - 15, 3, 20);
+
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(codigo != null ? codigo : CODIGO_DESCONHECIDO, x + 60, y);
+
+            g2d.setColor(COR_FUNDO_BARRA);
+            g2d.fillRect(x + 150, y - 12, larguraMaxima - 200, ALTURA_BARRA);
+            g2d.setColor(Color.LIGHT_GRAY);
+            g2d.drawRect(x + 150, y - 12, larguraMaxima - 200, ALTURA_BARRA);
+
+            g2d.setColor(COR_FUNDO_BARRA);
+            g2d.drawLine(x, y + 10, larguraMaxima + 200, y + 10);
+            y += ALTURA_LINHA;
+        }
+    }
+
+    private void configurarRenderizacao(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
+                RenderingHints.VALUE_STROKE_PURE);
+    }
+
+    private void desenharCabecalho(Graphics2D g2d, int x, int y, int larguraMaxima) {
+        g2d.setFont(FONTE_TABELA);
+        g2d.setColor(Color.BLACK);
+
+        g2d.drawString("POS", x, y);
+        g2d.drawString("PILOTO", x + 60, y);
+        g2d.drawString("PROGRESSO", x + 150, y);
+        g2d.drawString("STATUS", larguraMaxima + 50, y);
+
+        g2d.setColor(Color.LIGHT_GRAY);
+        g2d.setStroke(TRACO_SEPARADOR);
+        g2d.drawLine(x, y + 5, larguraMaxima + 200, y + 5);
+    }
+
+    /**
+     * O que muda a cada passo: preenchimento da barra (dentro da borda que está na camada
+     * estática), texto do progresso e status.
+     */
+    private void desenharLinhaDinamica(Graphics2D g2d, SnapshotSimulacao snapshot, int ordem,
+                                       int x, int y, int larguraMaxima) {
+        try {
+            String codigo = codigoValido(snapshot.getPiloto(ordem));
+            desenharBarraProgresso(g2d, snapshot.getProgresso(ordem), x + 150, y - 12, larguraMaxima - 200,
+                    ALTURA_BARRA, corEscura(codigo, corPiloto(codigo)));
+
+            String status = snapshot.getStatus(ordem);
+            String emoji = snapshot.getEmoji(ordem);
+            if (status != null && emoji != null) {
+                g2d.setColor(Color.BLACK);
+                rotuloStatus(status, emoji).desenhar(g2d, larguraMaxima + 50, y);
+            }
+        } catch (Exception e) {
+            System.err.println("Erro ao desenhar linha do piloto: " + e.getMessage());
+        }
+    }
+
+    private void desenharBarraProgresso(Graphics2D g2d, double progressoPiloto,
+                                        int x, int y, int larguraTotal, int altura, Color corBarra) {
+        int larguraProgresso = (int) (progressoPiloto * larguraTotal);
+        if (larguraProgresso > 1) {
+            g2d.setColor(corBarra);
+            g2d.fillRect(x + 1, y + 1, larguraProgresso - 1, altura - 1);
+        }
+
+        String progresso = rotuloProgresso(progressoPiloto);
+        FontMetrics fm = g2d.getFontMetrics();
+        int larguraTexto = fm.stringWidth(progresso);
+        int xTexto = x + (larguraProgresso / 2) - (larguraTexto / 2);
+
+        // Texto fora da barra (em preto) quando ela ainda é estreita demais para ele
+        if (larguraProgresso < larguraTexto + 10) {
+            xTexto = x + larguraProgresso + 5;
+            g2d.setColor(Color.BLACK);
+        } else {
+            g2d.setColor(Color.WHITE);
+        }
+
+        int yTexto = y + ((altura + fm.getAscent() - fm.getDescent()) / 2);
+        g2d.drawString(progresso, xTexto, yTexto);
+    }
+
+    private static String codigoValido(Piloto piloto) {
+        String codigo = piloto.getCodigo();
+        return codigo != null && !codigo.isBlank() ? codigo : null;
+    }
+
+    private Color corPiloto(String codigo) {
+        Color cor = codigo != null ? coresPilotos.get(codigo) : null;
+        return cor != null ? cor : coresPilotos.get("DEFAULT");
+    }
+
+    private Color corEscura(String codigo, Color corPiloto) {
+        String chave = codigo != null ? codigo : "DEFAULT";
+        Color escura = coresEscuras.get(chave);
+        if (escura == null) {
+            escura = corPiloto.darker();
+            coresEscuras.put(chave, escura);
+        }
+        return escura;
+    }
+
+    private static String rotuloPosicao(int posicao) {
+        return posicao < ROTULOS_POSICAO.length ? ROTULOS_POSICAO[posicao] : String.valueOf(posicao);
+    }
+
+    /**
+     * Rótulo "12,3%" do progresso, arredondado ao décimo de ponto percentual.
+     */
+    private static int indiceProgresso(double progresso) {
+        return (int) Math.round(Math.min(1.0, Math.max(0.0, progresso)) * DIVISOES_PROGRESSO);
+    }
+
+    private String rotuloProgresso(double progresso) {
+        int indice = indiceProgresso(progresso);
+        String rotulo = rotulosProgresso[indice];
+        if (rotulo == null) {
+            rotulo = String.format("%.1f%%", indice * 100.0 / DIVISOES_PROGRESSO);
+            rotulosProgresso[indice] = rotulo;
+        }
+        return rotulo;
+    }
+
+    private RotuloTexto rotuloStatus(String status, String emoji) {
+        Map<String, RotuloTexto> porEmoji = rotulosStatus.get(status);
+        if (porEmoji == null) {
+            porEmoji = new HashMap<>();
+            rotulosStatus.put(status, porEmoji);
+        }
+        RotuloTexto rotulo = porEmoji.get(emoji);
+        if (rotulo == null) {
+            rotulo = new RotuloTexto(status + " " + emoji);
+            porEmoji.put(emoji, rotulo);
+        }
+        return rotulo;
+    }
+
+    /**
+     * Texto na fonte da tabela com o GlyphVector montado uma vez por FontRenderContext
+     * (que só muda com as dicas de antialiasing ou a escala da tela).
+     */
+    private static final class RotuloTexto {
+        private final char[] texto;
+        private FontRenderContext contexto;
+        private GlyphVector glifos;
+
+        private RotuloTexto(String texto) {
+            this.texto = texto.toCharArray();
+        }
+
+        private void desenhar(Graphics2D g2d, int x, int y) {
+            FontRenderContext frc = g2d.getFontRenderContext();
+            if (glifos == null || !frc.equals(contexto)) {
+                glifos = FONTE_TABELA.layoutGlyphVector(frc, texto, 0, texto.length, Font.LAYOUT_LEFT_TO_RIGHT);
+                contexto = frc;
+            }
+            g2d.drawGlyphVector(glifos, x, y);
+        }
+    }
+
+    /**
+     * Média de bytes alocados por quadro desenhado, ou -1 se a JVM não mede.
+     */
+    double getBytesPorQuadro() {
+        return alocacaoQuadros.getBytesPorMedicao();
+    }
+
+    String getRelatorioAlocacao() {
+        return String.format("Pintura: %.1f bytes/quadro em %d quadros", getBytesPorQuadro(),
+                alocacaoQuadros.getMedicoes());
+    }
+
+    void zerarMedicao() {
+        alocacaoQuadros.zerar();
+    }
+}
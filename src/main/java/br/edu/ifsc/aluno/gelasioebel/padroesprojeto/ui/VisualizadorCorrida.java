@@ -1,32 +1,48 @@
 package br.edu.ifsc.aluno.gelasioebel.padroesprojeto.ui;
 
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.SessaoSimulacao;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.SimulacaoListener;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.SimuladorF1Facade;
-import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.EstadoPiloto;
+import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.estado.SnapshotSimulacao;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Corrida;
 import br.edu.ifsc.aluno.gelasioebel.padroesprojeto.modelo.Piloto;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
+    /**
+     * Com {@code -Df1.renderizacaoAtiva=true} a corrida é desenhada por um {@link CanvasCorrida}
+     * com thread própria, em vez do painel Swing. Sem tela disponível, o painel Swing é mantido.
+     */
+    public static final String PROPRIEDADE_RENDERIZACAO_ATIVA = "f1.renderizacaoAtiva";
     private static final int FRAME_WIDTH = 1200;
     private static final int FRAME_HEIGHT = 800;
-    private static final int UPDATE_INTERVAL = 32; // ~60 FPS
+    private static final int UPDATE_INTERVAL = 32; // ~30 FPS
     private final SimuladorF1Facade simulador;
     private final Map<String, Color> coresPilotos;
-    private Timer timer;
+    private final RenderizadorCorrida renderizador;
+    private final AtomicBoolean atualizacaoPendente = new AtomicBoolean();
+    private final Rectangle areaAlterada = new Rectangle();
+    private SnapshotSimulacao snapshotExibido = SnapshotSimulacao.VAZIO; // somente na EDT
+    private Timer timer; // apenas redesenha; quem avança a corrida é o relógio do simulador
     private JPanel painelCorrida;
+    private CanvasCorrida canvasCorrida; // null quando a corrida é desenhada pelo painel Swing
     private JComboBox<Integer> seletorAno;
     private JComboBox<String> seletorCorrida;
     private JComboBox<String> seletorVelocidade;
     private JLabel labelInfo;
+    private JProgressBar barraCarregamento;
+    private SwingWorker<?, ?> carregamento; // consulta à fonte de dados em andamento, somente na EDT
     private JButton btnIniciar;
     private JButton btnPausar;
     private JButton btnParar;
@@ -44,6 +60,7 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
         this.btnParar = new JButton("Parar");
 
         inicializarCoresPilotos();
+        this.renderizador = new RenderizadorCorrida(coresPilotos);
         simulador.addListener(this);
         inicializarInterface();
         configurarEventos();
@@ -52,24 +69,80 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
     private void atualizarCorridas(int ano) {
         seletorCorrida.removeAllItems();
         corridasAnoAtual.clear();
-        try {
-            List<Integer> rounds = simulador.getRoundsDoAno(ano);
-            for (Integer round : rounds) {
-                Corrida corrida = simulador.getCorridaInfo(ano, round);
-                if (corrida != null) {
-                    String nomeCorrida = corrida.getNome();
-                    seletorCorrida.addItem(nomeCorrida);
-                    corridasAnoAtual.put(nomeCorrida, round);
+        carregarEmSegundoPlano("Carregando corridas de " + ano + "...",
+                () -> simulador.getCorridasDoAno(ano),
+                corridas -> {
+                    for (Corrida corrida : corridas) {
+                        String nomeCorrida = corrida.getNome();
+                        seletorCorrida.addItem(nomeCorrida);
+                        corridasAnoAtual.put(nomeCorrida, corrida.getRound());
+                    }
+                    labelInfo.setText("Selecione uma corrida para começar");
+                },
+                erro -> {
+                    labelInfo.setText("Selecione uma corrida para começar");
+                    mostrarErro("Erro ao carregar corridas", erro);
+                });
+    }
+
+    /**
+     * Executa uma consulta à fonte de dados fora da EDT, com a barra de progresso visível e o
+     * botão Iniciar desabilitado até o fim; os callbacks rodam na EDT. Só há um carregamento
+     * por vez: um novo, ou uma mudança de seleção, cancela o anterior, cujo resultado é
+     * descartado. A consulta cancelada não é interrompida, porque o driver do SQLite não
+     * responde a interrupções; ela termina em segundo plano e ao menos aquece o cache.
+     */
+    private <T> void carregarEmSegundoPlano(String mensagem, Callable<T> consulta, Consumer<T> aoConcluir,
+                                            Consumer<Throwable> aoFalhar) {
+        cancelarCarregamento();
+        labelInfo.setText(mensagem);
+        barraCarregamento.setVisible(true);
+        btnIniciar.setEnabled(false);
+
+        SwingWorker<T, Void> worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return consulta.call();
+            }
+
+            @Override
+            protected void done() {
+                if (carregamento != this) {
+                    return; // cancelado ou substituído por outro carregamento
+                }
+                carregamento = null;
+                barraCarregamento.setVisible(false);
+                atualizarEstadoBotoes();
+                try {
+                    aoConcluir.accept(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    aoFalhar.accept(e.getCause());
                 }
             }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this,
-                    "Erro ao carregar corridas: " + e.getMessage(),
-                    "Erro",
-                    JOptionPane.ERROR_MESSAGE);
+        };
+        carregamento = worker;
+        worker.execute();
+    }
+
+    private void cancelarCarregamento() {
+        if (carregamento != null) {
+            carregamento.cancel(false);
+            carregamento = null;
+            barraCarregamento.setVisible(false);
+            labelInfo.setText("Selecione uma corrida para começar");
+            atualizarEstadoBotoes();
         }
     }
 
+    private void mostrarErro(String mensagem, Throwable erro) {
+        JOptionPane.showMessageDialog(this,
+                mensagem + ": " + erro.getMessage(),
+                "Erro",
+                JOptionPane.ERROR_MESSAGE);
+    }
+
 
     private synchronized void iniciarSimulacao() {
         if (seletorAno.getSelectedItem() == null || seletorCorrida.getSelectedItem() == null) {
@@ -99,26 +172,37 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
                 throw new IllegalArgumentException("Velocidade deve ser maior que zero");
             }
 
-            simulador.carregarCorrida(ano, round);
+            // A junção das tabelas roda em segundo plano; a sessão só troca de corrida na EDT
+            carregarEmSegundoPlano("Carregando " + nomeCorrida + "...",
+                    () -> simulador.buscarCorrida(ano, round),
+                    corrida -> comecarCorrida(corrida, velocidade),
+                    erro -> {
+                        labelInfo.setText("Selecione uma corrida para começar");
+                        mostrarErro("Erro ao iniciar simulação", erro);
+                    });
+
+        } catch (Exception e) {
+            mostrarErro("Erro ao iniciar simulação", e);
+        }
+    }
+
+    private void comecarCorrida(Corrida corridaCarregada, double velocidade) {
+        try {
+            simulador.carregarCorrida(corridaCarregada);
             simulador.setVelocidade(velocidade);
+            zerarMedicaoPintura();
             simulador.iniciar();
 
             if (timer != null) {
                 timer.stop();
+                timer = null;
             }
 
-            timer = new Timer(UPDATE_INTERVAL, e -> {
-                try {
-                    simulador.atualizarSimulacao(UPDATE_INTERVAL);
-                } catch (Exception ex) {
-                    pararSimulacao();
-                    JOptionPane.showMessageDialog(this,
-                            "Erro durante simulação: " + ex.getMessage(),
-                            "Erro",
-                            JOptionPane.ERROR_MESSAGE);
-                }
-            });
-            timer.start();
+            // A renderização ativa lê a sessão sozinha; só o painel Swing precisa do timer
+            if (canvasCorrida == null) {
+                timer = new Timer(UPDATE_INTERVAL, e -> atualizarPainel());
+                timer.start();
+            }
 
             Corrida corrida = simulador.getCorridaAtual();
             if (corrida != null) {
@@ -135,10 +219,7 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
             seletorVelocidade.setEnabled(false);
 
         } catch (Exception e) {
-            JOptionPane.showMessageDialog(this,
-                    "Erro ao iniciar simulação: " + e.getMessage(),
-                    "Erro",
-                    JOptionPane.ERROR_MESSAGE);
+            mostrarErro("Erro ao iniciar simulação", e);
         }
     }
 
@@ -157,6 +238,7 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
     }
 
     private synchronized void pararSimulacao() {
+        cancelarCarregamento();
         if (timer != null) {
             timer.stop();
             timer = null;
@@ -176,13 +258,13 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
         // Atualizar estado dos botões
         atualizarEstadoBotoes();
 
-        // Forçar repaint do painel da corrida
-        painelCorrida.repaint();
+        // Esvazia o painel da corrida
+        atualizarPainel();
     }
 
     private void atualizarEstadoBotoes() {
         SwingUtilities.invokeLater(() -> {
-            btnIniciar.setEnabled(!isRunning);
+            btnIniciar.setEnabled(!isRunning && carregamento == null);
             btnPausar.setEnabled(isRunning);
             btnParar.setEnabled(isRunning || simulador.getCorridaAtual() != null);
 
@@ -1951,7 +2033,7 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent e) {
-                pararSimulacao();
+                pararSimulacao(); // também cancela um carregamento em andamento
                 if (timer != null) {
                     timer.stop();
                     timer = null;
@@ -1960,7 +2042,17 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
             }
         });
 
-        ComponentAdapter resizeListener = new ComponentAdapter() {
+        painelCorrida.addComponentListener(criarDebounceCamada(painelCorrida, renderizador));
+    }
+
+    /**
+     * Invalida a camada estática do renderizador depois que o painel fica 150 ms sem mudar de
+     * tamanho. O painel muda de tamanho sem a janela mudar quando a quantidade de pilotos altera a
+     * altura preferida ou quando a barra de rolagem aparece ou some; por isso o listener fica no
+     * painel, não na janela.
+     */
+    static ComponentAdapter criarDebounceCamada(JComponent painel, RenderizadorCorrida renderizador) {
+        return new ComponentAdapter() {
             private Timer resizeTimer;
 
             @Override
@@ -1969,8 +2061,8 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
                     resizeTimer.restart();
                 } else {
                     resizeTimer = new Timer(150, evt -> {
-                        painelCorrida.revalidate();
-                        painelCorrida.repaint();
+                        renderizador.invalidarCamadaEstatica();
+                        painel.repaint();
                         ((Timer) evt.getSource()).stop();
                     });
                     resizeTimer.setRepeats(false);
@@ -1978,8 +2070,6 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
                 }
             }
         };
-
-        addComponentListener(resizeListener);
     }
 
     private void inicializarInterface() {
@@ -2002,19 +2092,41 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
 
         // Criar painel de corrida com scroll
         painelCorrida = criarPainelCorrida();
-        JScrollPane scrollPane = new JScrollPane(painelCorrida);
-        scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 10));
-
-        // Adicionar painéis ao frame
         add(painelSuperior, BorderLayout.NORTH);
-        add(scrollPane, BorderLayout.CENTER);
-
-        // Inicializar seletores
-        if (seletorAno.getItemCount() > 0) {
-            atualizarCorridas((Integer) seletorAno.getSelectedItem());
+        if (Boolean.getBoolean(PROPRIEDADE_RENDERIZACAO_ATIVA) && !GraphicsEnvironment.isHeadless()) {
+            // Componente pesado não rola bem em JScrollPane; a tela grande comporta o grid inteiro
+            canvasCorrida = new CanvasCorrida(simulador::getSnapshot, coresPilotos, painelCorrida.getBackground());
+            JPanel moldura = new JPanel(new BorderLayout());
+            moldura.setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 10));
+            moldura.add(canvasCorrida, BorderLayout.CENTER);
+            add(moldura, BorderLayout.CENTER);
+        } else {
+            JScrollPane scrollPane = new JScrollPane(painelCorrida);
+            scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 10));
+            add(scrollPane, BorderLayout.CENTER);
         }
     }
 
+    /**
+     * Chamado no EDT quando a fonte de dados termina de inicializar.
+     * Preenche os seletores e libera os controles da simulação.
+     */
+    public void onDadosDisponiveis() {
+        carregarEmSegundoPlano("Carregando anos disponíveis...",
+                simulador::getAnosDisponiveis,
+                anosDisponiveis -> {
+                    seletorAno.setModel(new DefaultComboBoxModel<>(anosDisponiveis.toArray(new Integer[0])));
+                    labelInfo.setText("Selecione uma corrida para começar");
+                    if (seletorAno.getSelectedItem() != null) {
+                        atualizarCorridas((Integer) seletorAno.getSelectedItem());
+                    }
+                },
+                erro -> {
+                    labelInfo.setText("Dados indisponíveis");
+                    mostrarErro("Erro ao carregar anos disponíveis", erro);
+                });
+    }
+
     private JPanel criarPainelControles() {
         JPanel painelControles = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
         painelControles.setBorder(BorderFactory.createCompoundBorder(
@@ -2022,9 +2134,8 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
                 BorderFactory.createEmptyBorder(5, 5, 5, 5)
         ));
 
-        // Initialize selectors
-        List<Integer> anosDisponiveis = simulador.getAnosDisponiveis();
-        seletorAno = new JComboBox<>(anosDisponiveis.toArray(new Integer[0]));
+        // Initialize selectors (anos são preenchidos quando os dados ficarem disponíveis)
+        seletorAno = new JComboBox<>();
         seletorCorrida = new JComboBox<>();
         seletorVelocidade = new JComboBox<>(new String[]{"1x", "2x", "5x", "10x", "50x", "100x", "1000x"});
 
@@ -2040,6 +2151,8 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
                 atualizarCorridas((Integer) seletorAno.getSelectedItem());
             }
         });
+        // Trocar de corrida no meio do carregamento descarta a corrida que estava chegando
+        seletorCorrida.addActionListener(e -> cancelarCarregamento());
 
         // Configure buttons
         btnIniciar.addActionListener(e -> iniciarSimulacao());
@@ -2047,6 +2160,7 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
         btnParar.addActionListener(e -> pararSimulacao());
 
         // Initial button states
+        btnIniciar.setEnabled(false);
         btnPausar.setEnabled(false);
         btnParar.setEnabled(false);
 
@@ -2081,10 +2195,15 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
         JPanel painelInfo = new JPanel(new FlowLayout(FlowLayout.LEFT));
         painelInfo.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
 
-        labelInfo = new JLabel("Selecione uma corrida para começar");
+        labelInfo = new JLabel("Carregando banco de dados...");
         labelInfo.setFont(new Font("Arial", Font.BOLD, 14));
         painelInfo.add(labelInfo);
 
+        barraCarregamento = new JProgressBar();
+        barraCarregamento.setIndeterminate(true);
+        barraCarregamento.setVisible(false);
+        painelInfo.add(barraCarregamento);
+
         return painelInfo;
     }
 
@@ -2098,190 +2217,121 @@ public class VisualizadorCorrida extends JFrame implements SimulacaoListener {
 
             @Override
             public Dimension getPreferredSize() {
-                int height = Math.max(400, simulador.getEstadosPilotos().size() * 40 + 60);
+                int height = RenderizadorCorrida.alturaPreferida(snapshotExibido.getQuantidade());
                 return new Dimension(getWidth(), height);
             }
         };
     }
 
 
+    /**
+     * Chamado pelo despachante de listeners da sessão, fora da EDT. Só uma atualização fica
+     * enfileirada na EDT por vez: se a EDT estiver ocupada, os passos seguintes são absorvidos
+     * por ela, que sempre lê o estado mais recente.
+     */
     @Override
-    public void onSimulacaoAtualizada(SimuladorF1Facade simulador) {
+    public void onSimulacaoAtualizada(SessaoSimulacao simulador) {
+        if (!atualizacaoPendente.compareAndSet(false, true)) {
+            return;
+        }
         SwingUtilities.invokeLater(() -> {
-            // Verificar se todos os pilotos terminaram
-            boolean todosTerminaram = true;
-            for (EstadoPiloto estado : simulador.getEstadosPilotos().values()) {
-                if (!estado.isTerminado()) {
-                    todosTerminaram = false;
-                    break;
-                }
+            atualizacaoPendente.set(false);
+
+            RuntimeException erro = simulador.getErroSimulacao();
+            if (erro != null && isRunning) {
+                pararSimulacao();
+                JOptionPane.showMessageDialog(this,
+                        "Erro durante simulação: " + erro.getMessage(),
+                        "Erro",
+                        JOptionPane.ERROR_MESSAGE);
+                return;
             }
 
-            // Se todos terminaram, parar a simulação automaticamente
-            if (todosTerminaram && isRunning) {
-                timer.stop();
+            // O simulador sai de execução sozinho quando todos os pilotos terminam
+            if (isRunning && !simulador.isEmExecucao()) {
+                if (timer != null) {
+                    timer.stop();
+                }
                 isRunning = false;
                 atualizarEstadoBotoes();
             }
 
-            painelCorrida.revalidate();
-            painelCorrida.repaint();
+            atualizarPainel();
         });
     }
 
-    private void desenharCorrida(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g.create();
-        try {
-            configurarRenderizacao(g2d);
-            Map<Piloto, EstadoPiloto> estados = simulador.getEstadosPilotos();
+    /**
+     * Troca a fotografia exibida pela mais recente e pede repintura só das linhas que mudaram
+     * em algum pixel, em faixas contíguas. O layout só é refeito quando muda a quantidade de
+     * pilotos, que é o que define a altura preferida do painel.
+     * <p>
+     * O RepaintManager une as áreas pedidas para o mesmo componente em um único retângulo;
+     * mesmo assim, as linhas abaixo da última alteração (em geral os pilotos que abandonaram)
+     * e acima da primeira ficam de fora, e o renderizador só desenha as linhas dentro do recorte.
+     */
+    private void atualizarPainel() {
+        if (canvasCorrida != null) {
+            return;
+        }
+        SnapshotSimulacao anterior = snapshotExibido;
+        SnapshotSimulacao atual = simulador.getSnapshot();
+        if (atual == anterior) {
+            return;
+        }
+        snapshotExibido = atual;
 
-            if (estados.isEmpty()) {
-                return;
-            }
+        if (atual.getQuantidade() != anterior.getQuantidade()) {
+            painelCorrida.revalidate();
+            painelCorrida.repaint();
+            return;
+        }
 
-            int y = 30;
-            int margemEsquerda = 20;
-            int larguraPiloto = 60;
-            int larguraMaxima = painelCorrida.getWidth() - 250;
-
-            desenharCabecalho(g2d, margemEsquerda, y, larguraMaxima);
-            y += 30;
-
-            List<Map.Entry<Piloto, EstadoPiloto>> pilotosOrdenados = new ArrayList<>(estados.entrySet());
-            pilotosOrdenados.sort((a, b) -> Double.compare(b.getValue().getProgresso(),
-                    a.getValue().getProgresso()));
-            pilotosOrdenados.sort((a, b) -> Double.compare(b.getValue().getProgresso(),
-                    a.getValue().getProgresso()));
-
-            int posicao = 1;
-            for (Map.Entry<Piloto, EstadoPiloto> entry : pilotosOrdenados) {
-                if (entry.getKey() != null && entry.getValue() != null) {
-                    desenharLinhaPiloto(g2d, entry.getKey(), entry.getValue(), posicao,
-                            margemEsquerda, y, larguraPiloto, larguraMaxima);
-                    y += 35;
-                    posicao++;
+        int largura = painelCorrida.getWidth();
+        int inicioFaixa = -1;
+        for (int i = 0; i < atual.getQuantidade(); i++) {
+            if (renderizador.isLinhaAlterada(anterior, atual, i, largura)) {
+                if (inicioFaixa < 0) {
+                    inicioFaixa = i;
                 }
+            } else if (inicioFaixa >= 0) {
+                repintarLinhas(inicioFaixa, i - 1, largura);
+                inicioFaixa = -1;
             }
-        } finally {
-            g2d.dispose();
+        }
+        if (inicioFaixa >= 0) {
+            repintarLinhas(inicioFaixa, atual.getQuantidade() - 1, largura);
         }
     }
 
-    private void configurarRenderizacao(Graphics2D g2d) {
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
-                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING,
-                RenderingHints.VALUE_RENDER_QUALITY);
-        g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
-                RenderingHints.VALUE_STROKE_PURE);
+    private void zerarMedicaoPintura() {
+        if (canvasCorrida != null) {
+            canvasCorrida.zerarMedicao();
+        } else {
+            renderizador.zerarMedicao();
+        }
     }
 
-    private void desenharCabecalho(Graphics2D g2d, int x, int y, int larguraMaxima) {
-        Font boldFont = new Font("Arial", Font.BOLD, 14);
-        g2d.setFont(boldFont);
-        g2d.setColor(Color.BLACK);
-
-        FontMetrics fm = g2d.getFontMetrics();
-        int alturaLinha = fm.getHeight();
-
-        // Draw header text
-        g2d.drawString("POS", x, y);
-        g2d.drawString("PILOTO", x + 60, y);
-        g2d.drawString("PROGRESSO", x + 150, y);
-        g2d.drawString("STATUS", larguraMaxima + 50, y);
-
-        // Draw separator line
-        g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setStroke(new BasicStroke(1.0f));
-        g2d.drawLine(x, y + 5, larguraMaxima + 200, y + 5);
+    /**
+     * Medição da pintura desde o último início de corrida: alocação por quadro no painel Swing,
+     * ou taxa de quadros, prazos perdidos e alocação na renderização ativa.
+     */
+    public String getRelatorioPintura() {
+        return canvasCorrida != null ? canvasCorrida.getRelatorioQuadros() : renderizador.getRelatorioAlocacao();
     }
 
-    private void desenharLinhaPiloto(Graphics2D g2d, Piloto piloto, EstadoPiloto estado,
-                                     int posicao, int x, int y, int larguraPiloto,
-                                     int larguraMaxima) {
-        try {
-            // Draw position number
-            g2d.setColor(Color.BLACK);
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
-            g2d.drawString(String.format("%2d", posicao), x, y);
-
-            // Get pilot code and color
-            String codigo = piloto.getCodigo();
-            Color corPiloto = codigo != null && !codigo.trim().isEmpty() ?
-                    coresPilotos.getOrDefault(codigo, coresPilotos.get("DEFAULT")) :
-                    coresPilotos.get("DEFAULT");
-
-            // Draw color bar
-            g2d.setColor(corPiloto);
-            g2d.fillRect(x + 50, y - 15, 3, 20);
-
-            // Draw pilot code or placeholder
-            g2d.setColor(Color.BLACK);
-            String displayCode = codigo != null && !codigo.trim().isEmpty() ?
-                    codigo : "???";
-            g2d.drawString(displayCode, x + 60, y);
-
-            // Rest of the drawing code...
-            desenharBarraProgresso(g2d, estado, x + 150, y - 12, larguraMaxima - 200, 16,
-                    codigo);
-
-            g2d.setColor(Color.BLACK);
-            String status = estado.getStatus();
-            String emoji = estado.getEmoji();
-            if (status != null && emoji != null) {
-                g2d.drawString(status + " " + emoji, larguraMaxima + 50, y);
-            }
-
-            g2d.setColor(new Color(240, 240, 240));
-            g2d.drawLine(x, y + 10, larguraMaxima + 200, y + 10);
-
-        } catch (Exception e) {
-            System.err.println("Erro ao desenhar linha do piloto: " + e.getMessage());
-        }
+    private void repintarLinhas(int primeira, int ultima, int largura) {
+        RenderizadorCorrida.limitesLinhas(primeira, ultima, largura, areaAlterada);
+        painelCorrida.repaint(areaAlterada);
     }
 
-    private void desenharBarraProgresso(Graphics2D g2d, EstadoPiloto estado,
-                                        int x, int y, int larguraTotal, int altura,
-                                        String codigoPiloto) {
-        if (estado == null) return;
-
-        // Background
-        g2d.setColor(new Color(240, 240, 240));
-        g2d.fillRect(x, y, larguraTotal, altura);
-
-        // Progress bar
-        int larguraProgresso = (int) (estado.getProgresso() * larguraTotal);
-
-        // Use default color (orange) if code is null
-        Color corPiloto = codigoPiloto != null && !codigoPiloto.trim().isEmpty() ?
-                coresPilotos.getOrDefault(codigoPiloto, coresPilotos.get("DEFAULT")) :
-                coresPilotos.get("DEFAULT");
-
-        g2d.setColor(corPiloto.darker());
-        g2d.fillRect(x, y, larguraProgresso, altura);
-
-        // Border
-        g2d.setColor(Color.LIGHT_GRAY);
-        g2d.drawRect(x, y, larguraTotal, altura);
-
-        // Progress text
-        String progresso = String.format("%.1f%%", estado.getProgresso() * 100);
-        FontMetrics fm = g2d.getFontMetrics();
-        int larguraTexto = fm.stringWidth(progresso);
-        int xTexto = x + (larguraProgresso / 2) - (larguraTexto / 2);
-
-        // Adjust text position and color based on progress width
-        if (larguraProgresso < larguraTexto + 10) {
-            xTexto = x + larguraProgresso + 5;
-            g2d.setColor(Color.BLACK);
-        } else {
-            g2d.setColor(Color.WHITE);
-        }
-
-        int yTexto = y + ((altura + fm.getAscent() - fm.getDescent()) / 2);
-        g2d.drawString(progresso, xTexto, yTexto);
+    /**
+     * O Graphics recebido em paintComponent já é uma cópia exclusiva do painel, que não tem
+     * filhos nem borda; por isso o renderizador o usa direto, sem outro create() por quadro.
+     */
+    private void desenharCorrida(Graphics g) {
+        // A mesma fotografia usada para decidir o que repintar: ordem e progresso coerentes
+        // entre os pilotos e com as áreas pedidas em atualizarPainel
+        renderizador.desenhar((Graphics2D) g, snapshotExibido, painelCorrida.getWidth(),
+                painelCorrida.getHeight(), painelCorrida.getBackground());
     }
-
 }
\ No newline at end of file